@@ -0,0 +1,57 @@
+package kitchenpos.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.common.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    @Param({"3", "30"})
+    private int itemCount;
+
+    private BigDecimal[] decimalPrices;
+    private Money[] moneyPrices;
+    private long[] quantities;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        decimalPrices = new BigDecimal[itemCount];
+        moneyPrices = new Money[itemCount];
+        quantities = new long[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            decimalPrices[i] = BigDecimal.valueOf(1_000 + random.nextInt(30_000), 0).setScale(2);
+            moneyPrices[i] = Money.from(decimalPrices[i]);
+            quantities[i] = 1 + random.nextInt(5);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal sumWithBigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            sum = sum.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public Money sumWithMoney() {
+        Money sum = Money.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            sum = sum.plus(moneyPrices[i].times(quantities[i]));
+        }
+
+        return sum;
+    }
+}
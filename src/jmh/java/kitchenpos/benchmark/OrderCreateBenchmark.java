@@ -0,0 +1,147 @@
+package kitchenpos.benchmark;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManagerFactory;
+import kitchenpos.Application;
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import kitchenpos.order.application.OrderService;
+import kitchenpos.order.application.event.OrderChangedEvent;
+import kitchenpos.order.application.request.OrderLineItemRequest;
+import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderLineItem;
+import kitchenpos.order.domain.repository.OrderRepository;
+import kitchenpos.order.validator.OrderTableValidator;
+import kitchenpos.table.application.TableService;
+import kitchenpos.table.application.request.OrderTableRequest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@State(Scope.Benchmark)
+public class OrderCreateBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private MenuRepository menuRepository;
+    private OrderRepository orderRepository;
+    private OrderTableValidator orderTableValidator;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private OrderRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "kitchenpos.order.archive.enabled=false"
+                )
+                .run();
+        orderService = context.getBean(OrderService.class);
+        menuRepository = context.getBean(MenuRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        orderTableValidator = context.getBean(OrderTableValidator.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        final Long orderTableId = context.getBean(TableService.class)
+                .create(new OrderTableRequest(null, 4, false))
+                .getId();
+        request = new OrderRequest(orderTableId, null, LocalDateTime.now(), List.of(
+                new OrderLineItemRequest(null, null, 1L, 1L),
+                new OrderLineItemRequest(null, null, 2L, 1L),
+                new OrderLineItemRequest(null, null, 3L, 2L)
+        ));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse create(final StatementCounter counter) {
+        final long statementCount = statistics.getPrepareStatementCount();
+        final OrderResponse response = orderService.create(request);
+        counter.statements += statistics.getPrepareStatementCount() - statementCount;
+        counter.orders++;
+
+        return response;
+    }
+
+    @Benchmark
+    public OrderResponse createWithMenuEntities(final StatementCounter counter) {
+        final long statementCount = statistics.getPrepareStatementCount();
+        final OrderResponse response = transactionTemplate.execute(status -> createWithMenuEntities());
+        counter.statements += statistics.getPrepareStatementCount() - statementCount;
+        counter.orders++;
+
+        return response;
+    }
+
+    private OrderResponse createWithMenuEntities() {
+        final Map<Long, Long> menuAndQuantity = request.getOrderLineItems()
+                .stream()
+                .collect(toMap(OrderLineItemRequest::getMenuId, OrderLineItemRequest::getQuantity));
+        final Long savedMenuCount = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)
+                .createQuery("select count(m) from Menu m where m.id in :ids", Long.class)
+                .setParameter("ids", menuAndQuantity.keySet())
+                .getSingleResult();
+        if (savedMenuCount != request.getOrderLineItems().size()) {
+            throw new IllegalArgumentException("주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치하지 않습니다.");
+        }
+        orderTableValidator.validateOrderTableNotEmpty(request.getOrderTableId());
+
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (Menu menu : menuRepository.findAllById(menuAndQuantity.keySet())) {
+            orderLineItems.add(new OrderLineItem(menu, menuAndQuantity.get(menu.getId())));
+        }
+        final Order savedOrder = orderRepository.save(Order.of(request.getOrderTableId(), LocalDateTime.now(),
+                orderLineItems));
+
+        final OrderResponse response = OrderResponse.from(savedOrder);
+        context.publishEvent(OrderChangedEvent.created(response));
+        return response;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+
+        public long statements;
+        public long orders;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            orders = 0;
+        }
+    }
+}
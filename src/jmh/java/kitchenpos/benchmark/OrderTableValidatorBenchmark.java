@@ -0,0 +1,56 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.Application;
+import kitchenpos.order.validator.OrderTableValidator;
+import kitchenpos.table.application.TableService;
+import kitchenpos.table.application.request.OrderTableRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+public class OrderTableValidatorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean registryEnabled;
+
+    private ConfigurableApplicationContext context;
+    private OrderTableValidator orderTableValidator;
+    private Long orderTableId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "kitchenpos.order.archive.enabled=false",
+                        "kitchenpos.table.registry.enabled=" + registryEnabled
+                )
+                .run();
+        orderTableValidator = context.getBean(OrderTableValidator.class);
+        orderTableId = context.getBean(TableService.class)
+                .create(new OrderTableRequest(null, 4, false))
+                .getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long validateOrderTableNotEmpty() {
+        orderTableValidator.validateOrderTableNotEmpty(orderTableId);
+
+        return orderTableId;
+    }
+}
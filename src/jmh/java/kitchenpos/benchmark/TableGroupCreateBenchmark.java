@@ -0,0 +1,66 @@
+package kitchenpos.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.Application;
+import kitchenpos.table.application.TableGroupService;
+import kitchenpos.table.application.TableService;
+import kitchenpos.table.application.request.OrderTableRequest;
+import kitchenpos.table.application.request.TableGroupRequest;
+import kitchenpos.table.application.response.OrderTableResponse;
+import kitchenpos.table.application.response.TableGroupResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+public class TableGroupCreateBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TableService tableService;
+    private TableGroupService tableGroupService;
+    private TableGroupRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "kitchenpos.order.archive.enabled=false"
+                )
+                .run();
+        tableService = context.getBean(TableService.class);
+        tableGroupService = context.getBean(TableGroupService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpOrderTables() {
+        request = new TableGroupRequest(LocalDateTime.now(), List.of(createEmptyOrderTable(),
+                createEmptyOrderTable()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TableGroupResponse create() {
+        return tableGroupService.create(request);
+    }
+
+    private OrderTableRequest createEmptyOrderTable() {
+        final OrderTableResponse orderTable = tableService.create(new OrderTableRequest(0, true));
+
+        return new OrderTableRequest(orderTable.getId(), null, orderTable.getNumberOfGuests(), orderTable.isEmpty());
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.common.application;
+
+import java.util.concurrent.atomic.AtomicLong;
+import kitchenpos.common.application.event.CatalogChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long get() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void increase(final CatalogChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,12 @@
+package kitchenpos.common.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnknownChangeSeqException extends IllegalArgumentException {
+
+    public UnknownChangeSeqException(final long changeSeq) {
+        super("아직 존재하지 않는 변경 순번입니다. (" + changeSeq + ")");
+    }
+}
@@ -0,0 +1,4 @@
+package kitchenpos.common.application.event;
+
+public class CatalogChangedEvent {
+}
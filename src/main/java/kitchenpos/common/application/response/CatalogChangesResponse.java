@@ -0,0 +1,58 @@
+package kitchenpos.common.application.response;
+
+import static java.util.stream.Collectors.toList;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import kitchenpos.common.application.UnknownChangeSeqException;
+
+public class CatalogChangesResponse<T> {
+
+    public static final int MAX_SIZE = 1_000;
+
+    private List<T> changes;
+    private long lastChangeSeq;
+    private boolean hasNext;
+
+    @JsonCreator
+    public CatalogChangesResponse(final List<T> changes, final long lastChangeSeq, final boolean hasNext) {
+        this.changes = changes;
+        this.lastChangeSeq = lastChangeSeq;
+        this.hasNext = hasNext;
+    }
+
+    public static <E, T> CatalogChangesResponse<T> of(final List<E> changedEntities, final long since,
+                                                      final int pageSize, final LongSupplier maxChangeSeq,
+                                                      final Function<E, Long> changeSeq,
+                                                      final Function<E, T> mapper) {
+        if (changedEntities.isEmpty() && since > maxChangeSeq.getAsLong()) {
+            throw new UnknownChangeSeqException(since);
+        }
+
+        final List<E> page = changedEntities.stream()
+                .limit(pageSize)
+                .collect(toList());
+        final long lastChangeSeq = page.isEmpty() ? since : changeSeq.apply(page.get(page.size() - 1));
+
+        return new CatalogChangesResponse<>(page.stream().map(mapper).collect(toList()), lastChangeSeq,
+                changedEntities.size() > pageSize);
+    }
+
+    public static int toPageSize(final int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public List<T> getChanges() {
+        return changes;
+    }
+
+    public long getLastChangeSeq() {
+        return lastChangeSeq;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
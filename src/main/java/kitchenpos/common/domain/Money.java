@@ -0,0 +1,112 @@
+package kitchenpos.common.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L, null);
+
+    private static final int SCALE = 2;
+
+    private final long minorUnits;
+    private final BigDecimal overflowedAmount;
+
+    private Money(final long minorUnits, final BigDecimal overflowedAmount) {
+        this.minorUnits = minorUnits;
+        this.overflowedAmount = overflowedAmount;
+    }
+
+    public static Money from(final BigDecimal amount) {
+        if (Objects.isNull(amount)) {
+            throw new IllegalArgumentException("금액이 존재하지 않습니다.");
+        }
+
+        final BigDecimal scaledAmount = amount.setScale(SCALE, RoundingMode.HALF_UP);
+        if (scaledAmount.unscaledValue().bitLength() < Long.SIZE) {
+            return new Money(scaledAmount.unscaledValue().longValue(), null);
+        }
+
+        return new Money(0L, scaledAmount);
+    }
+
+    public static Money ofMinorUnits(final long minorUnits) {
+        return new Money(minorUnits, null);
+    }
+
+    public Money plus(final Money other) {
+        if (isExact() && other.isExact()) {
+            try {
+                return new Money(Math.addExact(minorUnits, other.minorUnits), null);
+            } catch (ArithmeticException e) {
+                return from(toBigDecimal().add(other.toBigDecimal()));
+            }
+        }
+
+        return from(toBigDecimal().add(other.toBigDecimal()));
+    }
+
+    public Money times(final long quantity) {
+        if (isExact()) {
+            try {
+                return new Money(Math.multiplyExact(minorUnits, quantity), null);
+            } catch (ArithmeticException e) {
+                return from(toBigDecimal().multiply(BigDecimal.valueOf(quantity)));
+            }
+        }
+
+        return from(toBigDecimal().multiply(BigDecimal.valueOf(quantity)));
+    }
+
+    public boolean isGreaterThan(final Money other) {
+        return compareTo(other) > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        if (isExact()) {
+            return BigDecimal.valueOf(minorUnits, SCALE);
+        }
+
+        return overflowedAmount;
+    }
+
+    private boolean isExact() {
+        return Objects.isNull(overflowedAmount);
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        if (isExact() && other.isExact()) {
+            return Long.compare(minorUnits, other.minorUnits);
+        }
+
+        return toBigDecimal().compareTo(other.toBigDecimal());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final Money money = (Money) o;
+        return compareTo(money) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        if (isExact()) {
+            return Long.hashCode(minorUnits);
+        }
+
+        return overflowedAmount.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
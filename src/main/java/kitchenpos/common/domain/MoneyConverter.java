@@ -0,0 +1,28 @@
+package kitchenpos.common.domain;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(final Money money) {
+        if (Objects.isNull(money)) {
+            return null;
+        }
+
+        return money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(final BigDecimal amount) {
+        if (Objects.isNull(amount)) {
+            return null;
+        }
+
+        return Money.from(amount);
+    }
+}
@@ -0,0 +1,21 @@
+package kitchenpos.common.domain.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CatalogChangeLockRepository {
+
+    private static final long LOCK_ID = 1L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogChangeLockRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void lock() {
+        jdbcTemplate.queryForObject("SELECT id FROM catalog_change_lock WHERE id = ? FOR UPDATE", Long.class,
+                LOCK_ID);
+    }
+}
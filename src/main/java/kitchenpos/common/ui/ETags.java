@@ -0,0 +1,33 @@
+package kitchenpos.common.ui;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class ETags {
+
+    private static final String ANY_ETAG = "*";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private ETags() {
+    }
+
+    public static String toETag(final long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String toGzipETag(final long version) {
+        return "\"" + version + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    public static boolean matches(final String ifNoneMatch, final long version) {
+        if (Objects.isNull(ifNoneMatch)) {
+            return false;
+        }
+
+        final String eTag = toETag(version);
+        final String gzipETag = toGzipETag(version);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(it -> it.equals(ANY_ETAG) || it.equals(eTag) || it.equals(gzipETag));
+    }
+}
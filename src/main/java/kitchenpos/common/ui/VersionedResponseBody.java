@@ -0,0 +1,122 @@
+package kitchenpos.common.ui;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+public class VersionedResponseBody {
+
+    private static final String GZIP = "gzip";
+    private static final String ANY_ENCODING = "*";
+    private static final String QUALITY_PREFIX = "q=";
+
+    private final long version;
+    private final byte[] json;
+    private final byte[] gzippedJson;
+
+    private VersionedResponseBody(final long version, final byte[] json, final byte[] gzippedJson) {
+        this.version = version;
+        this.json = json;
+        this.gzippedJson = gzippedJson;
+    }
+
+    public static VersionedResponseBody of(final long version, final byte[] json) {
+        return new VersionedResponseBody(version, json, gzip(json));
+    }
+
+    public static ResponseEntity<byte[]> notModified(final long version, final String acceptEncoding) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(toETag(version, acceptsGzip(acceptEncoding)))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(final String acceptEncoding) {
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return builder.eTag(toETag(version, true))
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(gzippedJson);
+        }
+
+        return builder.eTag(toETag(version, false))
+                .body(json);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private static String toETag(final long version, final boolean gzip) {
+        if (gzip) {
+            return ETags.toGzipETag(version);
+        }
+
+        return ETags.toETag(version);
+    }
+
+    private static boolean acceptsGzip(final String acceptEncoding) {
+        if (Objects.isNull(acceptEncoding)) {
+            return false;
+        }
+
+        final List<String[]> codings = Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.split(";"))
+                .collect(toList());
+        return findCoding(codings, GZIP)
+                .or(() -> findCoding(codings, ANY_ENCODING))
+                .map(VersionedResponseBody::isAcceptable)
+                .orElse(false);
+    }
+
+    private static Optional<String[]> findCoding(final List<String[]> codings, final String name) {
+        return codings.stream()
+                .filter(coding -> coding[0].trim().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    private static boolean isAcceptable(final String[] coding) {
+        for (int i = 1; i < coding.length; i++) {
+            final String parameter = coding[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith(QUALITY_PREFIX)) {
+                return parseQuality(parameter.substring(QUALITY_PREFIX.length())) > 0;
+            }
+        }
+
+        return true;
+    }
+
+    private static double parseQuality(final String quality) {
+        try {
+            return Double.parseDouble(quality);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static byte[] gzip(final byte[] json) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+}
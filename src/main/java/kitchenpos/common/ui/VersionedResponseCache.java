@@ -0,0 +1,50 @@
+package kitchenpos.common.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class VersionedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<VersionedResponseBody> body = new AtomicReference<>();
+
+    public VersionedResponseCache(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public VersionedResponseBody get(final long version, final Supplier<?> content) {
+        final VersionedResponseBody current = body.get();
+        if (isFresh(current, version)) {
+            return current;
+        }
+
+        return rebuild(version, content);
+    }
+
+    private synchronized VersionedResponseBody rebuild(final long version, final Supplier<?> content) {
+        final VersionedResponseBody current = body.get();
+        if (isFresh(current, version)) {
+            return current;
+        }
+
+        final VersionedResponseBody rebuilt = VersionedResponseBody.of(version, serialize(content.get()));
+        body.set(rebuilt);
+
+        return rebuilt;
+    }
+
+    private byte[] serialize(final Object content) {
+        try {
+            return objectMapper.writeValueAsBytes(content);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 만들 수 없습니다.", e);
+        }
+    }
+
+    private static boolean isFresh(final VersionedResponseBody body, final long version) {
+        return Objects.nonNull(body) && body.getVersion() == version;
+    }
+}
@@ -0,0 +1,30 @@
+package kitchenpos.menu.application;
+
+import java.util.List;
+import kitchenpos.menu.application.response.MenuGroupResponse;
+import kitchenpos.menu.application.response.MenuResponse;
+
+public class MenuCatalog {
+
+    private final long version;
+    private final List<MenuResponse> menus;
+    private final List<MenuGroupResponse> menuGroups;
+
+    public MenuCatalog(final long version, final List<MenuResponse> menus, final List<MenuGroupResponse> menuGroups) {
+        this.version = version;
+        this.menus = List.copyOf(menus);
+        this.menuGroups = List.copyOf(menuGroups);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<MenuResponse> getMenus() {
+        return menus;
+    }
+
+    public List<MenuGroupResponse> getMenuGroups() {
+        return menuGroups;
+    }
+}
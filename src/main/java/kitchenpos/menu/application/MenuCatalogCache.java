@@ -0,0 +1,86 @@
+package kitchenpos.menu.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import kitchenpos.menu.application.event.MenuCatalogChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class MenuCatalogCache {
+
+    private static final String CACHE_METRIC_NAME = "menu.catalog.cache";
+
+    private final MenuService menuService;
+    private final MenuGroupService menuGroupService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter rebuildCounter;
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private final AtomicReference<MenuCatalog> catalog = new AtomicReference<>();
+
+    public MenuCatalogCache(
+            final MenuService menuService,
+            final MenuGroupService menuGroupService,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry
+    ) {
+        this.menuService = menuService;
+        this.menuGroupService = menuGroupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.hitCounter = meterRegistry.counter(CACHE_METRIC_NAME, "result", "hit");
+        this.missCounter = meterRegistry.counter(CACHE_METRIC_NAME, "result", "miss");
+        this.rebuildCounter = meterRegistry.counter("menu.catalog.rebuild");
+        meterRegistry.gauge("menu.catalog.version", version, AtomicLong::get);
+    }
+
+    public MenuCatalog getCatalog() {
+        final MenuCatalog current = catalog.get();
+        if (Objects.nonNull(current)) {
+            hitCounter.increment();
+            return current;
+        }
+
+        missCounter.increment();
+        return load();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void rebuild(final MenuCatalogChangedEvent event) {
+        if (Objects.isNull(catalog.get())) {
+            return;
+        }
+
+        catalog.set(build());
+    }
+
+    private synchronized MenuCatalog load() {
+        final MenuCatalog current = catalog.get();
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+
+        final MenuCatalog loaded = build();
+        catalog.set(loaded);
+
+        return loaded;
+    }
+
+    private MenuCatalog build() {
+        final long nextVersion = version.incrementAndGet();
+        final MenuCatalog built = transactionTemplate.execute(status ->
+                new MenuCatalog(nextVersion, menuService.list(), menuGroupService.list()));
+        rebuildCounter.increment();
+
+        return built;
+    }
+}
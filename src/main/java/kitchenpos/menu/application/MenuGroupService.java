@@ -3,10 +3,19 @@ package kitchenpos.menu.application;
 import static java.util.stream.Collectors.toList;
 
 import java.util.List;
+import kitchenpos.common.application.response.CatalogChangesResponse;
+import kitchenpos.common.domain.repository.CatalogChangeLockRepository;
+import kitchenpos.menu.application.event.MenuCatalogChangedEvent;
 import kitchenpos.menu.application.request.MenuGroupRequest;
 import kitchenpos.menu.application.response.MenuGroupResponse;
+import kitchenpos.menu.application.response.MenuGroupSummaryResponse;
+import kitchenpos.menu.application.response.MenuSummaryResponse;
 import kitchenpos.menu.domain.MenuGroup;
+import kitchenpos.menu.domain.MenuSummary;
 import kitchenpos.menu.domain.repository.MenuGroupRepository;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,14 +24,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class MenuGroupService {
 
     private final MenuGroupRepository menuGroupRepository;
+    private final MenuRepository menuRepository;
+    private final CatalogChangeLockRepository catalogChangeLockRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(final MenuGroupRepository menuGroupRepository, final MenuRepository menuRepository,
+                            final CatalogChangeLockRepository catalogChangeLockRepository,
+                            final ApplicationEventPublisher eventPublisher) {
         this.menuGroupRepository = menuGroupRepository;
+        this.menuRepository = menuRepository;
+        this.catalogChangeLockRepository = catalogChangeLockRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public MenuGroupResponse create(final MenuGroupRequest request) {
+        catalogChangeLockRepository.lock();
         final MenuGroup menuGroup = new MenuGroup(request.getName());
         final MenuGroup savedMenuGroup = menuGroupRepository.save(menuGroup);
+        eventPublisher.publishEvent(MenuCatalogChangedEvent.menuGroupCreated());
 
         return new MenuGroupResponse(savedMenuGroup);
     }
@@ -35,4 +54,34 @@ public class MenuGroupService {
                 .map(MenuGroupResponse::new)
                 .collect(toList());
     }
+
+    @Transactional(readOnly = true)
+    public List<MenuGroupSummaryResponse> listSummaries() {
+        return menuGroupRepository.findAllSummaries()
+                .stream()
+                .map(MenuGroupSummaryResponse::new)
+                .collect(toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuSummaryResponse> listMenus(final Long menuGroupId) {
+        final List<MenuSummary> menus = menuRepository.findAllSummariesByMenuGroupId(menuGroupId);
+        if (menus.isEmpty() && !menuGroupRepository.existsById(menuGroupId)) {
+            throw new IllegalArgumentException("존재하지 않는 메뉴 그룹입니다.");
+        }
+
+        return menus.stream()
+                .map(MenuSummaryResponse::new)
+                .collect(toList());
+    }
+
+    @Transactional(readOnly = true)
+    public CatalogChangesResponse<MenuGroupResponse> findChanges(final long since, final int size) {
+        final int pageSize = CatalogChangesResponse.toPageSize(size);
+        final List<MenuGroup> menuGroups = menuGroupRepository.findAllByChangeSeqGreaterThanOrderByChangeSeq(since,
+                PageRequest.of(0, pageSize + 1));
+
+        return CatalogChangesResponse.of(menuGroups, since, pageSize, menuGroupRepository::findMaxChangeSeq,
+                MenuGroup::getChangeSeq, MenuGroupResponse::new);
+    }
 }
@@ -0,0 +1,153 @@
+package kitchenpos.menu.application;
+
+import static java.util.stream.Collectors.toList;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import kitchenpos.menu.application.event.MenuCatalogChangedEvent;
+import kitchenpos.menu.application.response.MenuSummaryResponse;
+import kitchenpos.menu.domain.MenuSummary;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class MenuSearchIndex {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int GRAM_SIZE = 2;
+
+    private final MenuRepository menuRepository;
+    private final Map<Long, IndexedMenu> menus = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> menuIdsByGram = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    public MenuSearchIndex(final MenuRepository menuRepository) {
+        this.menuRepository = menuRepository;
+    }
+
+    public List<MenuSummaryResponse> search(final String query, final int limit) {
+        final String keyword = normalize(query);
+        if (keyword.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해야 합니다.");
+        }
+        loadIfNotLoaded();
+
+        return findCandidates(keyword)
+                .stream()
+                .map(menus::get)
+                .filter(Objects::nonNull)
+                .filter(menu -> menu.contains(keyword))
+                .sorted(rank(keyword))
+                .limit(Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .map(IndexedMenu::toResponse)
+                .collect(toList());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void index(final MenuCatalogChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+
+        event.getCreatedMenus()
+                .forEach(this::add);
+    }
+
+    private void loadIfNotLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        synchronized (this) {
+            if (!loaded) {
+                menuRepository.findAllSummaries()
+                        .forEach(this::add);
+                loaded = true;
+            }
+        }
+    }
+
+    private void add(final MenuSummary menu) {
+        final IndexedMenu indexedMenu = new IndexedMenu(menu, normalize(menu.getName()));
+        menus.put(menu.getId(), indexedMenu);
+        toIndexGrams(indexedMenu.normalizedName)
+                .forEach(gram -> menuIdsByGram.computeIfAbsent(gram, it -> ConcurrentHashMap.newKeySet())
+                        .add(menu.getId()));
+    }
+
+    private Set<Long> findCandidates(final String keyword) {
+        return toQueryGrams(keyword)
+                .stream()
+                .map(gram -> menuIdsByGram.getOrDefault(gram, Set.of()))
+                .min(Comparator.comparingInt(Set::size))
+                .orElse(Set.of());
+    }
+
+    private static Comparator<IndexedMenu> rank(final String keyword) {
+        return Comparator.<IndexedMenu>comparingInt(menu -> menu.normalizedName.indexOf(keyword))
+                .thenComparingInt(menu -> menu.normalizedName.length())
+                .thenComparing(menu -> menu.menu.getId());
+    }
+
+    private static Set<String> toIndexGrams(final String name) {
+        final Set<String> grams = new HashSet<>();
+        for (int i = 0; i < name.length(); i++) {
+            grams.add(name.substring(i, i + 1));
+        }
+        grams.addAll(toQueryGrams(name));
+
+        return grams;
+    }
+
+    private static Set<String> toQueryGrams(final String keyword) {
+        if (keyword.length() < GRAM_SIZE) {
+            return Set.of(keyword);
+        }
+
+        final Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + GRAM_SIZE));
+        }
+
+        return grams;
+    }
+
+    private static String normalize(final String text) {
+        if (Objects.isNull(text)) {
+            return "";
+        }
+
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .replaceAll("\\s+", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static class IndexedMenu {
+
+        private final MenuSummary menu;
+        private final String normalizedName;
+
+        private IndexedMenu(final MenuSummary menu, final String normalizedName) {
+            this.menu = menu;
+            this.normalizedName = normalizedName;
+        }
+
+        private boolean contains(final String keyword) {
+            return normalizedName.contains(keyword);
+        }
+
+        private MenuSummaryResponse toResponse() {
+            return new MenuSummaryResponse(menu);
+        }
+    }
+}
@@ -1,21 +1,35 @@
 package kitchenpos.menu.application;
 
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.IntStream;
+import kitchenpos.common.application.response.CatalogChangesResponse;
+import kitchenpos.common.domain.repository.CatalogChangeLockRepository;
+import kitchenpos.menu.application.event.MenuCatalogChangedEvent;
 import kitchenpos.menu.application.request.MenuProductRequest;
 import kitchenpos.menu.application.request.MenuRequest;
+import kitchenpos.menu.application.response.MenuBulkResultResponse;
 import kitchenpos.menu.application.response.MenuResponse;
 import kitchenpos.menu.domain.Menu;
 import kitchenpos.menu.domain.MenuProducts;
-import kitchenpos.product.domain.Product;
+import kitchenpos.menu.domain.MenuGroup;
 import kitchenpos.menu.domain.RelatedProduct;
+import kitchenpos.product.domain.Product;
 import kitchenpos.menu.domain.repository.MenuGroupRepository;
 import kitchenpos.menu.domain.repository.MenuRepository;
 import kitchenpos.product.domain.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,66 +37,157 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class MenuService {
 
+    private static final int PARALLEL_VALIDATION_THRESHOLD = 1_000;
+
     private final MenuRepository menuRepository;
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
+    private final CatalogChangeLockRepository catalogChangeLockRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MenuService(
             final MenuRepository menuRepository,
             final MenuGroupRepository menuGroupRepository,
-            final ProductRepository productRepository
+            final ProductRepository productRepository,
+            final CatalogChangeLockRepository catalogChangeLockRepository,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
+        this.catalogChangeLockRepository = catalogChangeLockRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public MenuResponse create(final MenuRequest request) {
-        if (!menuGroupRepository.existsById(request.getMenuGroupId())) {
-            throw new IllegalArgumentException("어느 하나의 메뉴 그룹에는 속해야 합니다.");
-        }
-
-        final Menu menu = Menu.of(request.getName(), request.getPrice(), request.getMenuGroupId(), getMenuProducts(request));
+        catalogChangeLockRepository.lock();
+        final List<MenuRequest> requests = List.of(request);
+        final Menu menu = toMenu(request, findAllProducts(requests), findAllMenuGroupIds(requests));
         final Menu savedMenu = menuRepository.save(menu);
+        eventPublisher.publishEvent(MenuCatalogChangedEvent.menusCreated(List.of(savedMenu)));
 
         return MenuResponse.from(savedMenu);
     }
 
+    public List<MenuBulkResultResponse> createAll(final List<MenuRequest> requests) {
+        catalogChangeLockRepository.lock();
+        final Map<Long, Product> products = findAllProducts(requests);
+        final Set<Long> menuGroupIds = findAllMenuGroupIds(requests);
+
+        final MenuBulkResultResponse[] results = new MenuBulkResultResponse[requests.size()];
+        final Menu[] menus = new Menu[requests.size()];
+        getIndexes(requests.size()).forEach(index -> {
+            try {
+                menus[index] = toMenu(requests.get(index), products, menuGroupIds);
+            } catch (IllegalArgumentException e) {
+                results[index] = MenuBulkResultResponse.failure(index, e.getMessage());
+            }
+        });
+
+        final List<Menu> validMenus = Arrays.stream(menus)
+                .filter(Objects::nonNull)
+                .collect(toList());
+        if (!validMenus.isEmpty()) {
+            menuRepository.saveAll(validMenus);
+            eventPublisher.publishEvent(MenuCatalogChangedEvent.menusCreated(validMenus));
+        }
+        for (int index = 0; index < menus.length; index++) {
+            if (Objects.nonNull(menus[index])) {
+                results[index] = MenuBulkResultResponse.success(index, MenuResponse.from(menus[index]));
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
     @Transactional(readOnly = true)
     public List<MenuResponse> list() {
-        final List<Menu> menus = menuRepository.findAll();
+        final List<Menu> menus = menuRepository.findAllWithMenuProducts();
 
         return menus.stream()
                 .map(MenuResponse::from)
                 .collect(toList());
     }
 
-    private MenuProducts getMenuProducts(final MenuRequest request) {
-        final List<MenuProductRequest> menuProductRequests = request.getMenuProducts();
-        final List<Product> products = findAllProducts(menuProductRequests);
-
-        final List<RelatedProduct> relatedProducts = new ArrayList<>();
-        for (Product product : products) {
-            final long quantity = getQuantityFromSameProduct(product.getId(), menuProductRequests);
-            relatedProducts.add(new RelatedProduct(product, quantity));
-        }
+    @Transactional(readOnly = true)
+    public CatalogChangesResponse<MenuResponse> findChanges(final long since, final int size) {
+        final int pageSize = CatalogChangesResponse.toPageSize(size);
+        final List<Menu> menus = menuRepository.findAllByChangeSeqGreaterThanOrderByChangeSeq(since,
+                PageRequest.of(0, pageSize + 1));
 
-        return new MenuProducts(relatedProducts);
+        return CatalogChangesResponse.of(menus, since, pageSize, menuRepository::findMaxChangeSeq,
+                Menu::getChangeSeq, MenuResponse::from);
     }
 
-    private long getQuantityFromSameProduct(final Long id, final List<MenuProductRequest> menuProductRequests) {
+    private static Map<Long, Long> getQuantities(final List<MenuProductRequest> menuProductRequests) {
         return menuProductRequests.stream()
-                .filter(it -> it.getProductId().equals(id))
-                .findAny()
-                .map(MenuProductRequest::getQuantity)
-                .orElseThrow(IllegalArgumentException::new);
+                .collect(toMap(MenuProductRequest::getProductId, MenuProductRequest::getQuantity,
+                        (quantity, duplicatedQuantity) -> quantity));
     }
 
-    private List<Product> findAllProducts(final List<MenuProductRequest> menuProductRequests) {
-        final Set<Long> productIds = menuProductRequests.stream()
+    private Map<Long, Product> findAllProducts(final List<MenuRequest> requests) {
+        final Set<Long> productIds = requests.stream()
+                .map(MenuRequest::getMenuProducts)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
                 .map(MenuProductRequest::getProductId)
+                .filter(Objects::nonNull)
+                .collect(toSet());
+
+        if (productIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return productRepository.findAllById(productIds)
+                .stream()
+                .collect(toMap(Product::getId, identity()));
+    }
+
+    private Set<Long> findAllMenuGroupIds(final List<MenuRequest> requests) {
+        final Set<Long> menuGroupIds = requests.stream()
+                .map(MenuRequest::getMenuGroupId)
+                .filter(Objects::nonNull)
+                .collect(toSet());
+
+        if (menuGroupIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return menuGroupRepository.findAllById(menuGroupIds)
+                .stream()
+                .map(MenuGroup::getId)
                 .collect(toSet());
+    }
+
+    private static IntStream getIndexes(final int size) {
+        final IntStream indexes = IntStream.range(0, size);
+        if (size < PARALLEL_VALIDATION_THRESHOLD) {
+            return indexes;
+        }
+
+        return indexes.parallel();
+    }
+
+    private static Menu toMenu(final MenuRequest request, final Map<Long, Product> products,
+                               final Set<Long> menuGroupIds) {
+        if (!menuGroupIds.contains(request.getMenuGroupId())) {
+            throw new IllegalArgumentException("어느 하나의 메뉴 그룹에는 속해야 합니다.");
+        }
+        if (Objects.isNull(request.getMenuProducts()) || request.getMenuProducts().isEmpty()) {
+            throw new IllegalArgumentException("한 가지 이상의 메뉴 상품을 포함해야 합니다.");
+        }
+
+        final Map<Long, Long> quantities = getQuantities(request.getMenuProducts());
+        final List<RelatedProduct> relatedProducts = new ArrayList<>();
+        for (Map.Entry<Long, Long> quantity : quantities.entrySet()) {
+            final Product product = products.get(quantity.getKey());
+            if (Objects.isNull(product)) {
+                throw new IllegalArgumentException("존재하지 않는 상품은 메뉴에 포함할 수 없습니다.");
+            }
+            relatedProducts.add(new RelatedProduct(product, quantity.getValue()));
+        }
 
-        return productRepository.findAllById(productIds);
+        return Menu.of(request.getName(), request.getPrice(), request.getMenuGroupId(),
+                new MenuProducts(relatedProducts));
     }
 }
@@ -0,0 +1,50 @@
+package kitchenpos.menu.application;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import kitchenpos.menu.application.event.MenuCatalogChangedEvent;
+import kitchenpos.menu.domain.MenuProductReference;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ProductMenuIndex {
+
+    private final MenuRepository menuRepository;
+
+    private Map<Long, Set<Long>> menuIdsByProductId;
+
+    public ProductMenuIndex(final MenuRepository menuRepository) {
+        this.menuRepository = menuRepository;
+    }
+
+    public synchronized Set<Long> findMenuIds(final Long productId) {
+        if (Objects.isNull(menuIdsByProductId)) {
+            menuIdsByProductId = new HashMap<>();
+            menuRepository.findAllMenuProductReferences()
+                    .forEach(this::add);
+        }
+
+        return Set.copyOf(menuIdsByProductId.getOrDefault(productId, Set.of()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void index(final MenuCatalogChangedEvent event) {
+        if (Objects.isNull(menuIdsByProductId)) {
+            return;
+        }
+
+        event.getCreatedMenuProducts()
+                .forEach(this::add);
+    }
+
+    private void add(final MenuProductReference menuProduct) {
+        menuIdsByProductId.computeIfAbsent(menuProduct.getProductId(), productId -> new HashSet<>())
+                .add(menuProduct.getMenuId());
+    }
+}
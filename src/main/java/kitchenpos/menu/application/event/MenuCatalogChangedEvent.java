@@ -0,0 +1,48 @@
+package kitchenpos.menu.application.event;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import kitchenpos.common.application.event.CatalogChangedEvent;
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuProductReference;
+import kitchenpos.menu.domain.MenuSummary;
+
+public class MenuCatalogChangedEvent extends CatalogChangedEvent {
+
+    private final List<MenuSummary> createdMenus;
+    private final List<MenuProductReference> createdMenuProducts;
+
+    private MenuCatalogChangedEvent(final List<MenuSummary> createdMenus,
+                                    final List<MenuProductReference> createdMenuProducts) {
+        this.createdMenus = createdMenus;
+        this.createdMenuProducts = createdMenuProducts;
+    }
+
+    public static MenuCatalogChangedEvent menusCreated(final List<Menu> menus) {
+        final List<MenuSummary> createdMenus = menus.stream()
+                .map(menu -> new MenuSummary(menu.getId(), menu.getName(), menu.getPrice()))
+                .collect(toList());
+        final List<MenuProductReference> createdMenuProducts = menus.stream()
+                .flatMap(menu -> menu.getMenuProducts()
+                        .getRelatedProducts()
+                        .stream()
+                        .map(relatedProduct -> new MenuProductReference(menu.getId(),
+                                relatedProduct.getProduct().getId())))
+                .collect(toList());
+
+        return new MenuCatalogChangedEvent(createdMenus, createdMenuProducts);
+    }
+
+    public static MenuCatalogChangedEvent menuGroupCreated() {
+        return new MenuCatalogChangedEvent(List.of(), List.of());
+    }
+
+    public List<MenuSummary> getCreatedMenus() {
+        return createdMenus;
+    }
+
+    public List<MenuProductReference> getCreatedMenuProducts() {
+        return createdMenuProducts;
+    }
+}
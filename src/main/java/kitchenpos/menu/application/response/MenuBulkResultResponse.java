@@ -0,0 +1,37 @@
+package kitchenpos.menu.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public class MenuBulkResultResponse {
+
+    private int index;
+    private MenuResponse menu;
+    private String message;
+
+    @JsonCreator
+    public MenuBulkResultResponse(final int index, final MenuResponse menu, final String message) {
+        this.index = index;
+        this.menu = menu;
+        this.message = message;
+    }
+
+    public static MenuBulkResultResponse success(final int index, final MenuResponse menu) {
+        return new MenuBulkResultResponse(index, menu, null);
+    }
+
+    public static MenuBulkResultResponse failure(final int index, final String message) {
+        return new MenuBulkResultResponse(index, null, message);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public MenuResponse getMenu() {
+        return menu;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
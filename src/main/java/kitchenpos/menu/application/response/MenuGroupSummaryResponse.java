@@ -0,0 +1,34 @@
+package kitchenpos.menu.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import kitchenpos.menu.domain.MenuGroupSummary;
+
+public class MenuGroupSummaryResponse {
+
+    private Long id;
+    private String name;
+    private long menuCount;
+
+    @JsonCreator
+    public MenuGroupSummaryResponse(final Long id, final String name, final long menuCount) {
+        this.id = id;
+        this.name = name;
+        this.menuCount = menuCount;
+    }
+
+    public MenuGroupSummaryResponse(final MenuGroupSummary menuGroup) {
+        this(menuGroup.getId(), menuGroup.getName(), menuGroup.getMenuCount());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMenuCount() {
+        return menuCount;
+    }
+}
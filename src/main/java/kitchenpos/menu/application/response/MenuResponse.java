@@ -27,7 +27,7 @@ public class MenuResponse {
     }
 
     public MenuResponse(final Menu menu, final List<MenuProductResponse> menuProducts) {
-        this(menu.getId(), menu.getName(), menu.getPrice(), menu.getMenuGroupId(), menuProducts);
+        this(menu.getId(), menu.getName(), menu.getPrice().toBigDecimal(), menu.getMenuGroupId(), menuProducts);
     }
 
     public static MenuResponse from(final Menu menu) {
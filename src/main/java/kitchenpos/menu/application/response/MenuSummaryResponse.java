@@ -0,0 +1,35 @@
+package kitchenpos.menu.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.math.BigDecimal;
+import kitchenpos.menu.domain.MenuSummary;
+
+public class MenuSummaryResponse {
+
+    private Long id;
+    private String name;
+    private BigDecimal price;
+
+    @JsonCreator
+    public MenuSummaryResponse(final Long id, final String name, final BigDecimal price) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+    }
+
+    public MenuSummaryResponse(final MenuSummary menu) {
+        this(menu.getId(), menu.getName(), menu.getPrice().toBigDecimal());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+}
@@ -1,29 +1,35 @@
 package kitchenpos.menu.domain;
 
-import static javax.persistence.GenerationType.IDENTITY;
+import static javax.persistence.GenerationType.SEQUENCE;
 
 import java.math.BigDecimal;
 import java.util.Objects;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.domain.MoneyConverter;
 
 @Entity
 public class Menu {
 
-    private static final int ZERO_PRICE = 0;
+    private static final int ID_ALLOCATION_SIZE = 50;
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "menu_seq_generator")
+    @SequenceGenerator(name = "menu_seq_generator", sequenceName = "menu_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
     private String name;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false)
-    private BigDecimal price;
+    private Money price;
 
     @Column(nullable = false)
     private Long menuGroupId;
@@ -31,13 +37,16 @@ public class Menu {
     @Embedded
     private MenuProducts menuProducts;
 
+    @Column(insertable = false, updatable = false)
+    private Long changeSeq;
+
     protected Menu() {
     }
 
     public Menu(final String name, final BigDecimal price, final Long menuGroupId,
                 final MenuProducts menuProducts) {
         this.name = name;
-        this.price = price;
+        this.price = Money.from(price);
         this.menuGroupId = menuGroupId;
         this.menuProducts = menuProducts;
     }
@@ -47,16 +56,16 @@ public class Menu {
             throw new IllegalArgumentException("올바르지 않은 메뉴의 가격입니다.");
         }
 
-        final BigDecimal productSumPrice = calculateProductSum(menuProducts);
-        if (price.compareTo(productSumPrice) > ZERO_PRICE) {
+        final Menu menu = new Menu(name, price, menuGroupId, menuProducts);
+        if (menu.exceedsProductsSumPrice()) {
             throw new IllegalArgumentException("메뉴의 가격이 상품(product)의 금액 총합보다 크면 안됩니다.");
         }
 
-        return new Menu(name, price, menuGroupId, menuProducts);
+        return menu;
     }
 
-    private static BigDecimal calculateProductSum(final MenuProducts menuProducts) {
-        return menuProducts.getProductsSumPrice();
+    public boolean exceedsProductsSumPrice() {
+        return price.isGreaterThan(menuProducts.getProductsSumPrice());
     }
 
     public Long getId() {
@@ -67,7 +76,7 @@ public class Menu {
         return name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
@@ -78,4 +87,8 @@ public class Menu {
     public MenuProducts getMenuProducts() {
         return menuProducts;
     }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
 }
@@ -17,6 +17,9 @@ public class MenuGroup {
     @Column(nullable = false)
     private String name;
 
+    @Column(insertable = false, updatable = false)
+    private Long changeSeq;
+
     protected MenuGroup() {
     }
 
@@ -31,4 +34,8 @@ public class MenuGroup {
     public String getName() {
         return name;
     }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
 }
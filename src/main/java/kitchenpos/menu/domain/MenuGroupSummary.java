@@ -0,0 +1,26 @@
+package kitchenpos.menu.domain;
+
+public class MenuGroupSummary {
+
+    private final Long id;
+    private final String name;
+    private final long menuCount;
+
+    public MenuGroupSummary(final Long id, final String name, final long menuCount) {
+        this.id = id;
+        this.name = name;
+        this.menuCount = menuCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMenuCount() {
+        return menuCount;
+    }
+}
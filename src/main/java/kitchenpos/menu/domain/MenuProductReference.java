@@ -0,0 +1,20 @@
+package kitchenpos.menu.domain;
+
+public class MenuProductReference {
+
+    private final Long menuId;
+    private final Long productId;
+
+    public MenuProductReference(final Long menuId, final Long productId) {
+        this.menuId = menuId;
+        this.productId = productId;
+    }
+
+    public Long getMenuId() {
+        return menuId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+}
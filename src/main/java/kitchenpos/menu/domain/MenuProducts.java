@@ -1,19 +1,19 @@
 package kitchenpos.menu.domain;
 
-import static javax.persistence.FetchType.EAGER;
-
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.CollectionTable;
 import javax.persistence.ElementCollection;
 import javax.persistence.Embeddable;
 import javax.persistence.JoinColumn;
+import kitchenpos.common.domain.Money;
+import org.hibernate.annotations.BatchSize;
 
 @Embeddable
 public class MenuProducts {
 
-    @ElementCollection(fetch = EAGER)
+    @BatchSize(size = 100)
+    @ElementCollection
     @CollectionTable(name = "menu_product", joinColumns = @JoinColumn(name = "menu_id"))
     private List<RelatedProduct> relatedProducts = new ArrayList<>();
 
@@ -28,13 +28,14 @@ public class MenuProducts {
         return relatedProducts;
     }
 
-    public BigDecimal getProductsSumPrice() {
-        BigDecimal sum = BigDecimal.ZERO;
+    public Money getProductsSumPrice() {
+        Money sum = Money.ZERO;
         for (RelatedProduct relatedProduct : relatedProducts) {
-            final BigDecimal price = relatedProduct.getProduct().getPrice();
-            final BigDecimal quantity = BigDecimal.valueOf(relatedProduct.getQuantity());
+            final Money amount = relatedProduct.getProduct()
+                    .getPrice()
+                    .times(relatedProduct.getQuantity());
 
-            sum = sum.add(price.multiply(quantity));
+            sum = sum.plus(amount);
         }
 
         return sum;
@@ -0,0 +1,28 @@
+package kitchenpos.menu.domain;
+
+import kitchenpos.common.domain.Money;
+
+public class MenuSummary {
+
+    private final Long id;
+    private final String name;
+    private final Money price;
+
+    public MenuSummary(final Long id, final String name, final Money price) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+}
@@ -1,7 +1,21 @@
 package kitchenpos.menu.domain.repository;
 
+import java.util.List;
 import kitchenpos.menu.domain.MenuGroup;
+import kitchenpos.menu.domain.MenuGroupSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MenuGroupRepository extends JpaRepository<MenuGroup, Long> {
+
+    @Query("select new kitchenpos.menu.domain.MenuGroupSummary(g.id, g.name, count(m.id)) "
+            + "from MenuGroup g left join Menu m on m.menuGroupId = g.id "
+            + "group by g.id, g.name order by g.id")
+    List<MenuGroupSummary> findAllSummaries();
+
+    List<MenuGroup> findAllByChangeSeqGreaterThanOrderByChangeSeq(long changeSeq, Pageable pageable);
+
+    @Query("select coalesce(max(g.changeSeq), 0) from MenuGroup g")
+    long findMaxChangeSeq();
 }
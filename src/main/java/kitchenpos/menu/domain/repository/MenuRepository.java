@@ -1,10 +1,39 @@
 package kitchenpos.menu.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.MenuProductReference;
+import kitchenpos.menu.domain.MenuSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
 
-    Long countByIdIn(List<Long> ids);
+    @Query("select distinct m from Menu m left join fetch m.menuProducts.relatedProducts order by m.id")
+    List<Menu> findAllWithMenuProducts();
+
+    @Query("select distinct m from Menu m left join fetch m.menuProducts.relatedProducts where m.id in :ids")
+    List<Menu> findAllWithMenuProductsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new kitchenpos.menu.domain.MenuProductReference(m.id, rp.product.id) "
+            + "from Menu m join m.menuProducts.relatedProducts rp")
+    List<MenuProductReference> findAllMenuProductReferences();
+
+    @Query("select new kitchenpos.menu.domain.MenuSummary(m.id, m.name, m.price) from Menu m")
+    List<MenuSummary> findAllSummaries();
+
+    @Query("select new kitchenpos.menu.domain.MenuSummary(m.id, m.name, m.price) from Menu m where m.id in :ids")
+    List<MenuSummary> findAllSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new kitchenpos.menu.domain.MenuSummary(m.id, m.name, m.price) from Menu m "
+            + "where m.menuGroupId = :menuGroupId order by m.id")
+    List<MenuSummary> findAllSummariesByMenuGroupId(@Param("menuGroupId") Long menuGroupId);
+
+    List<Menu> findAllByChangeSeqGreaterThanOrderByChangeSeq(long changeSeq, Pageable pageable);
+
+    @Query("select coalesce(max(m.changeSeq), 0) from Menu m")
+    long findMaxChangeSeq();
 }
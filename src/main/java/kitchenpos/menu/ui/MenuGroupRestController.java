@@ -1,23 +1,44 @@
 package kitchenpos.menu.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import java.util.List;
+import kitchenpos.common.application.response.CatalogChangesResponse;
+import kitchenpos.common.ui.ETags;
+import kitchenpos.common.ui.VersionedResponseBody;
+import kitchenpos.common.ui.VersionedResponseCache;
+import kitchenpos.menu.application.MenuCatalog;
+import kitchenpos.menu.application.MenuCatalogCache;
 import kitchenpos.menu.application.MenuGroupService;
 import kitchenpos.menu.application.request.MenuGroupRequest;
 import kitchenpos.menu.application.response.MenuGroupResponse;
+import kitchenpos.menu.application.response.MenuGroupSummaryResponse;
+import kitchenpos.menu.application.response.MenuSummaryResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class MenuGroupRestController {
 
     private final MenuGroupService menuGroupService;
+    private final MenuCatalogCache menuCatalogCache;
+    private final VersionedResponseCache menuGroupResponseCache;
 
-    public MenuGroupRestController(final MenuGroupService menuGroupService) {
+    public MenuGroupRestController(
+            final MenuGroupService menuGroupService,
+            final MenuCatalogCache menuCatalogCache,
+            final ObjectMapper objectMapper
+    ) {
         this.menuGroupService = menuGroupService;
+        this.menuCatalogCache = menuCatalogCache;
+        this.menuGroupResponseCache = new VersionedResponseCache(objectMapper);
     }
 
     @PostMapping("/api/menu-groups")
@@ -29,7 +50,34 @@ public class MenuGroupRestController {
     }
 
     @GetMapping("/api/menu-groups")
-    public ResponseEntity<List<MenuGroupResponse>> list() {
-        return ResponseEntity.ok().body(menuGroupService.list());
+    public ResponseEntity<byte[]> list(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        final MenuCatalog catalog = menuCatalogCache.getCatalog();
+        if (ETags.matches(ifNoneMatch, catalog.getVersion())) {
+            return VersionedResponseBody.notModified(catalog.getVersion(), acceptEncoding);
+        }
+
+        return menuGroupResponseCache.get(catalog.getVersion(), catalog::getMenuGroups)
+                .toResponseEntity(acceptEncoding);
+    }
+
+    @GetMapping("/api/menu-groups/summaries")
+    public ResponseEntity<List<MenuGroupSummaryResponse>> listSummaries() {
+        return ResponseEntity.ok(menuGroupService.listSummaries());
+    }
+
+    @GetMapping("/api/menu-groups/{menuGroupId}/menus")
+    public ResponseEntity<List<MenuSummaryResponse>> listMenus(@PathVariable final Long menuGroupId) {
+        return ResponseEntity.ok(menuGroupService.listMenus(menuGroupId));
+    }
+
+    @GetMapping("/api/menu-groups/changes")
+    public ResponseEntity<CatalogChangesResponse<MenuGroupResponse>> findChanges(
+            @RequestParam(defaultValue = "0") final long since,
+            @RequestParam(defaultValue = "500") final int size
+    ) {
+        return ResponseEntity.ok(menuGroupService.findChanges(since, size));
     }
 }
@@ -1,23 +1,59 @@
 package kitchenpos.menu.ui;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import kitchenpos.common.application.response.CatalogChangesResponse;
+import kitchenpos.common.ui.ETags;
+import kitchenpos.common.ui.VersionedResponseBody;
+import kitchenpos.common.ui.VersionedResponseCache;
+import kitchenpos.menu.application.MenuCatalog;
+import kitchenpos.menu.application.MenuCatalogCache;
+import kitchenpos.menu.application.MenuSearchIndex;
 import kitchenpos.menu.application.MenuService;
 import kitchenpos.menu.application.request.MenuRequest;
+import kitchenpos.menu.application.response.MenuBulkResultResponse;
 import kitchenpos.menu.application.response.MenuResponse;
+import kitchenpos.menu.application.response.MenuSummaryResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class MenuRestController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final MenuService menuService;
+    private final MenuCatalogCache menuCatalogCache;
+    private final MenuSearchIndex menuSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final VersionedResponseCache menuResponseCache;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(
+            final MenuService menuService,
+            final MenuCatalogCache menuCatalogCache,
+            final MenuSearchIndex menuSearchIndex,
+            final ObjectMapper objectMapper
+    ) {
         this.menuService = menuService;
+        this.menuCatalogCache = menuCatalogCache;
+        this.menuSearchIndex = menuSearchIndex;
+        this.objectMapper = objectMapper;
+        this.menuResponseCache = new VersionedResponseCache(objectMapper);
     }
 
     @PostMapping("/api/menus")
@@ -28,8 +64,68 @@ public class MenuRestController {
         return ResponseEntity.created(uri).body(response);
     }
 
+    @PostMapping(value = "/api/menus/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<MenuBulkResultResponse>> createAll(@RequestBody final List<MenuRequest> requests) {
+        return ResponseEntity.ok().body(menuService.createAll(requests));
+    }
+
+    @PostMapping(value = "/api/menus/bulk", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<MenuBulkResultResponse>> createAllFromNdjson(final InputStream body) throws IOException {
+        return ResponseEntity.ok().body(menuService.createAll(readMenuRequests(body)));
+    }
+
     @GetMapping("/api/menus")
-    public ResponseEntity<List<MenuResponse>> list() {
-        return ResponseEntity.ok().body(menuService.list());
+    public ResponseEntity<byte[]> list(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        final MenuCatalog catalog = menuCatalogCache.getCatalog();
+        if (ETags.matches(ifNoneMatch, catalog.getVersion())) {
+            return VersionedResponseBody.notModified(catalog.getVersion(), acceptEncoding);
+        }
+
+        return menuResponseCache.get(catalog.getVersion(), catalog::getMenus)
+                .toResponseEntity(acceptEncoding);
+    }
+
+    @GetMapping("/api/menus/search")
+    public ResponseEntity<List<MenuSummaryResponse>> search(
+            @RequestParam final String q,
+            @RequestParam(defaultValue = "20") final int limit
+    ) {
+        return ResponseEntity.ok(menuSearchIndex.search(q, limit));
+    }
+
+    @GetMapping("/api/menus/changes")
+    public ResponseEntity<CatalogChangesResponse<MenuResponse>> findChanges(
+            @RequestParam(defaultValue = "0") final long since,
+            @RequestParam(defaultValue = "500") final int size
+    ) {
+        return ResponseEntity.ok(menuService.findChanges(since, size));
+    }
+
+    private List<MenuRequest> readMenuRequests(final InputStream body) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        final List<MenuRequest> requests = new ArrayList<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            requests.add(readMenuRequest(line, lineNumber));
+        }
+
+        return requests;
+    }
+
+    private MenuRequest readMenuRequest(final String line, final int lineNumber) {
+        try {
+            return objectMapper.readValue(line, MenuRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 메뉴 요청을 읽을 수 없습니다.");
+        }
     }
 }
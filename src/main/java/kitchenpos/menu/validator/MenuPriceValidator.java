@@ -0,0 +1,38 @@
+package kitchenpos.menu.validator;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Set;
+import kitchenpos.menu.application.ProductMenuIndex;
+import kitchenpos.menu.domain.Menu;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import kitchenpos.product.validator.ProductMenuValidator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MenuPriceValidator implements ProductMenuValidator {
+
+    private final MenuRepository menuRepository;
+    private final ProductMenuIndex productMenuIndex;
+
+    public MenuPriceValidator(final MenuRepository menuRepository, final ProductMenuIndex productMenuIndex) {
+        this.menuRepository = menuRepository;
+        this.productMenuIndex = productMenuIndex;
+    }
+
+    @Override
+    public List<Long> findMenuIdsExceedingProductsSumPrice(final Long productId) {
+        final Set<Long> menuIds = productMenuIndex.findMenuIds(productId);
+        if (menuIds.isEmpty()) {
+            return List.of();
+        }
+
+        return menuRepository.findAllWithMenuProductsByIdIn(menuIds)
+                .stream()
+                .filter(Menu::exceedsProductsSumPrice)
+                .map(Menu::getId)
+                .sorted()
+                .collect(toList());
+    }
+}
@@ -0,0 +1,12 @@
+package kitchenpos.order.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyReusedException extends IllegalArgumentException {
+
+    public IdempotencyKeyReusedException(final String idempotencyKey) {
+        super("이미 다른 주문 요청에 사용한 멱등성 키입니다. (" + idempotencyKey + ")");
+    }
+}
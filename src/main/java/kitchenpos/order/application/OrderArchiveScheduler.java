@@ -0,0 +1,36 @@
+package kitchenpos.order.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "kitchenpos.order.archive.enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveService orderArchiveService;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public OrderArchiveScheduler(
+            final OrderArchiveService orderArchiveService,
+            @Value("${kitchenpos.order.archive.retention:P30D}") final Duration retention,
+            @Value("${kitchenpos.order.archive.chunk-size:500}") final int chunkSize
+    ) {
+        this.orderArchiveService = orderArchiveService;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order.archive.fixed-delay:PT10M}")
+    public void archive() {
+        final LocalDateTime orderedBefore = LocalDateTime.now().minus(retention);
+        int archivedCount;
+        do {
+            archivedCount = orderArchiveService.archiveChunk(orderedBefore, chunkSize);
+        } while (archivedCount == chunkSize);
+    }
+}
@@ -0,0 +1,80 @@
+package kitchenpos.order.application;
+
+import static java.util.stream.Collectors.toList;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import kitchenpos.order.application.response.OrderPageResponse;
+import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderArchivePosition;
+import kitchenpos.order.domain.repository.OrderArchiveRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class OrderArchiveService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderArchiveRepository orderArchiveRepository;
+
+    public OrderArchiveService(final OrderArchiveRepository orderArchiveRepository) {
+        this.orderArchiveRepository = orderArchiveRepository;
+    }
+
+    public int archiveChunk(final LocalDateTime orderedBefore, final int chunkSize) {
+        final OrderArchivePosition checkpoint = orderArchiveRepository.lockCheckpoint();
+        final List<OrderArchivePosition> positions = orderArchiveRepository.findArchivablePositions(orderedBefore,
+                checkpoint, chunkSize);
+
+        orderArchiveRepository.moveToArchive(positions.stream()
+                .map(OrderArchivePosition::getOrderId)
+                .collect(toList()), LocalDateTime.now());
+        orderArchiveRepository.saveCheckpoint(getNextCheckpoint(positions, chunkSize));
+
+        return positions.size();
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPageResponse listArchived(final String cursor, final int size) {
+        final int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        final List<Order> orders = orderArchiveRepository.findArchivedOrders(toPosition(cursor), pageSize + 1);
+
+        final List<OrderResponse> orderResponses = orders.stream()
+                .limit(pageSize)
+                .map(OrderResponse::from)
+                .collect(toList());
+
+        return new OrderPageResponse(orderResponses, getNextCursor(orders, pageSize));
+    }
+
+    private static OrderArchivePosition getNextCheckpoint(final List<OrderArchivePosition> positions,
+                                                          final int chunkSize) {
+        if (positions.size() < chunkSize) {
+            return OrderArchivePosition.initial();
+        }
+
+        return positions.get(positions.size() - 1);
+    }
+
+    private static OrderArchivePosition toPosition(final String cursor) {
+        if (Objects.isNull(cursor)) {
+            return OrderArchivePosition.initial();
+        }
+
+        final OrderCursor orderCursor = OrderCursor.decode(cursor);
+        return new OrderArchivePosition(orderCursor.getOrderedTime(), orderCursor.getId());
+    }
+
+    private static String getNextCursor(final List<Order> orders, final int pageSize) {
+        if (orders.size() <= pageSize) {
+            return null;
+        }
+
+        final Order lastOrder = orders.get(pageSize - 1);
+        return new OrderCursor(lastOrder.getOrderedTime(), lastOrder.getId()).encode();
+    }
+}
@@ -0,0 +1,61 @@
+package kitchenpos.order.application;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+public class OrderCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime orderedTime;
+    private final Long id;
+
+    public OrderCursor(final LocalDateTime orderedTime, final Long id) {
+        this.orderedTime = orderedTime;
+        this.id = id;
+    }
+
+    public static OrderCursor decode(final String token) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+            final String[] values = decoded.split(DELIMITER);
+            return new OrderCursor(LocalDateTime.parse(values[0]), Long.valueOf(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("올바르지 않은 주문 목록 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        final String value = orderedTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+
+    public LocalDateTime getOrderedTime() {
+        return orderedTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final OrderCursor that = (OrderCursor) o;
+        return Objects.equals(orderedTime, that.orderedTime) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(orderedTime, id);
+    }
+}
@@ -0,0 +1,174 @@
+package kitchenpos.order.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.domain.OrderIdempotencyKey;
+import kitchenpos.order.domain.repository.OrderIdempotencyKeyRepository;
+import kitchenpos.order.domain.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class OrderIdempotencyService {
+
+    private static final String REQUEST_HASH_ALGORITHM = "SHA-256";
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderIdempotencyStore store;
+    private final Duration ttl;
+    private final ObjectMapper objectMapper;
+    private final Map<String, InFlight> inFlights = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(
+            final OrderService orderService,
+            final OrderRepository orderRepository,
+            final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+            final PlatformTransactionManager transactionManager,
+            final ObjectMapper objectMapper,
+            @Value("${kitchenpos.order.idempotency.capacity:10000}") final int capacity,
+            @Value("${kitchenpos.order.idempotency.ttl:PT24H}") final Duration ttl
+    ) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.store = new OrderIdempotencyStore(capacity, ttl);
+        this.ttl = ttl;
+        this.objectMapper = objectMapper;
+    }
+
+    public OrderResponse create(final String idempotencyKey, final OrderRequest request) {
+        validateIdempotencyKey(idempotencyKey);
+        final String requestHash = hash(request);
+
+        final Optional<OrderResponse> storedResponse = store.find(idempotencyKey, requestHash);
+        if (storedResponse.isPresent()) {
+            return storedResponse.get();
+        }
+
+        final InFlight inFlight = new InFlight(requestHash);
+        final InFlight existingInFlight = inFlights.putIfAbsent(idempotencyKey, inFlight);
+        if (Objects.nonNull(existingInFlight)) {
+            return existingInFlight.join(idempotencyKey, requestHash);
+        }
+
+        try {
+            final OrderResponse response = createOnce(idempotencyKey, requestHash, request);
+            store.put(idempotencyKey, requestHash, response);
+            inFlight.future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            inFlight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlights.remove(idempotencyKey, inFlight);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order.idempotency.purge-delay:PT1H}")
+    public void purgeExpiredKeys() {
+        final LocalDateTime createdBefore = LocalDateTime.now().minus(ttl);
+        transactionTemplate.execute(status -> orderIdempotencyKeyRepository.deleteAllByCreatedTimeBefore(
+                createdBefore));
+    }
+
+    private OrderResponse createOnce(final String idempotencyKey, final String requestHash,
+                                     final OrderRequest request) {
+        final Optional<OrderResponse> savedResponse = findByIdempotencyKey(idempotencyKey, requestHash);
+        if (savedResponse.isPresent()) {
+            return savedResponse.get();
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                final OrderResponse response = orderService.create(request);
+                orderIdempotencyKeyRepository.saveAndFlush(
+                        new OrderIdempotencyKey(idempotencyKey, response.getId(), requestHash,
+                                LocalDateTime.now()));
+                return response;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return findByIdempotencyKey(idempotencyKey, requestHash).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<OrderResponse> findByIdempotencyKey(final String idempotencyKey, final String requestHash) {
+        return transactionTemplate.execute(status -> orderIdempotencyKeyRepository.findById(idempotencyKey)
+                .map(orderIdempotencyKey -> validateRequestedBy(orderIdempotencyKey, requestHash))
+                .flatMap(orderIdempotencyKey -> orderRepository.findById(orderIdempotencyKey.getOrderId()))
+                .map(OrderResponse::from));
+    }
+
+    private static OrderIdempotencyKey validateRequestedBy(final OrderIdempotencyKey orderIdempotencyKey,
+                                                           final String requestHash) {
+        if (!orderIdempotencyKey.isRequestedBy(requestHash)) {
+            throw new IdempotencyKeyReusedException(orderIdempotencyKey.getId());
+        }
+
+        return orderIdempotencyKey;
+    }
+
+    private String hash(final OrderRequest request) {
+        try {
+            final byte[] digest = MessageDigest.getInstance(REQUEST_HASH_ALGORITHM)
+                    .digest(objectMapper.writeValueAsBytes(request));
+            final StringBuilder requestHash = new StringBuilder();
+            for (final byte b : digest) {
+                requestHash.append(String.format("%02x", b));
+            }
+            return requestHash.toString();
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void validateIdempotencyKey(final String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > OrderIdempotencyKey.MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("올바르지 않은 멱등성 키입니다.");
+        }
+    }
+
+    private static class InFlight {
+
+        private final String requestHash;
+        private final CompletableFuture<OrderResponse> future = new CompletableFuture<>();
+
+        private InFlight(final String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        private OrderResponse join(final String idempotencyKey, final String requestHash) {
+            if (!this.requestHash.equals(requestHash)) {
+                throw new IdempotencyKeyReusedException(idempotencyKey);
+            }
+
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+}
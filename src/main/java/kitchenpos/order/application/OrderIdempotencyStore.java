@@ -0,0 +1,70 @@
+package kitchenpos.order.application;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import kitchenpos.order.application.response.OrderResponse;
+
+public class OrderIdempotencyStore {
+
+    private final Map<String, Entry> entries;
+    private final long ttlMillis;
+
+    public OrderIdempotencyStore(final int capacity, final Duration ttl) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("멱등성 키 저장소의 크기는 0보다 커야 합니다.");
+        }
+
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > capacity || eldest.getValue().isExpired(System.currentTimeMillis());
+            }
+        };
+    }
+
+    public synchronized Optional<OrderResponse> find(final String key, final String requestHash) {
+        final Entry entry = entries.get(key);
+        if (Objects.isNull(entry)) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        if (!entry.requestHash.equals(requestHash)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+
+        return Optional.of(entry.response);
+    }
+
+    public synchronized void put(final String key, final String requestHash, final OrderResponse response) {
+        entries.remove(key);
+        entries.put(key, new Entry(requestHash, response, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+
+        private final String requestHash;
+        private final OrderResponse response;
+        private final long expiresAt;
+
+        private Entry(final String requestHash, final OrderResponse response, final long expiresAt) {
+            this.requestHash = requestHash;
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return expiresAt <= now;
+        }
+    }
+}
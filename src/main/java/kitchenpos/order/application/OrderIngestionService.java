@@ -0,0 +1,277 @@
+package kitchenpos.order.application;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static kitchenpos.order.domain.OrderStatus.COOKING;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import kitchenpos.menu.application.event.MenuCatalogChangedEvent;
+import kitchenpos.menu.domain.MenuSummary;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import kitchenpos.order.application.event.OrderChangedEvent;
+import kitchenpos.order.application.request.OrderLineItemRequest;
+import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.response.OrderIngestionResponse;
+import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderLineItem;
+import kitchenpos.order.domain.repository.OrderArchiveRepository;
+import kitchenpos.order.domain.repository.OrderJdbcRepository;
+import kitchenpos.order.domain.repository.OrderRepository;
+import kitchenpos.order.validator.OrderTableValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@ConditionalOnProperty(name = "kitchenpos.order.ingestion.enabled", havingValue = "true")
+public class OrderIngestionService {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    private static final long ORDERABLE_TABLE_TTL_MILLIS = 1000L;
+    private static final int MAX_FAILURE_HISTORY = 10_000;
+    private static final String NOT_ORDERABLE_TABLE_MESSAGE = "주문 테이블이 비어있으면 주문을 생성할 수 없다.";
+    private static final String WRITE_FAILURE_MESSAGE = "주문을 저장하지 못했습니다.";
+
+    private final MenuRepository menuRepository;
+    private final OrderRepository orderRepository;
+    private final OrderJdbcRepository orderJdbcRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderTableValidator orderTableValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Order> queue;
+    private final int batchSize;
+
+    private final Map<Long, MenuSummary> menus = new ConcurrentHashMap<>();
+    private final Map<Long, Long> orderableTableExpirations = new ConcurrentHashMap<>();
+    private final Set<Long> pendingOrderIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, String> failures = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Long, String> eldest) {
+                    return size() > MAX_FAILURE_HISTORY;
+                }
+            });
+
+    private final Thread writer = new Thread(this::write, "order-ingestion-writer");
+    private volatile boolean running = true;
+    private long nextOrderId;
+    private long lastOrderId = -1L;
+
+    public OrderIngestionService(
+            final MenuRepository menuRepository,
+            final OrderRepository orderRepository,
+            final OrderJdbcRepository orderJdbcRepository,
+            final OrderArchiveRepository orderArchiveRepository,
+            final OrderTableValidator orderTableValidator,
+            final ApplicationEventPublisher eventPublisher,
+            final PlatformTransactionManager transactionManager,
+            @Value("${kitchenpos.order.ingestion.queue-capacity:10000}") final int queueCapacity,
+            @Value("${kitchenpos.order.ingestion.batch-size:500}") final int batchSize
+    ) {
+        this.menuRepository = menuRepository;
+        this.orderRepository = orderRepository;
+        this.orderJdbcRepository = orderJdbcRepository;
+        this.orderArchiveRepository = orderArchiveRepository;
+        this.orderTableValidator = orderTableValidator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join();
+    }
+
+    public Optional<OrderIngestionResponse> accept(final OrderRequest request) {
+        final List<OrderLineItem> orderLineItems = getOrderLineItems(request);
+        validateOrderableTable(request.getOrderTableId());
+
+        final Long orderId = allocateOrderId();
+        final Order order = new Order(orderId, request.getOrderTableId(), COOKING, LocalDateTime.now(),
+                orderLineItems);
+
+        pendingOrderIds.add(orderId);
+        if (!queue.offer(order)) {
+            pendingOrderIds.remove(orderId);
+            return Optional.empty();
+        }
+
+        return Optional.of(new OrderIngestionResponse(orderId, OrderIngestionStatus.PENDING.name(), null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictMenus(final MenuCatalogChangedEvent event) {
+        menus.clear();
+    }
+
+    public Optional<OrderIngestionResponse> findStatus(final Long orderId) {
+        final String failureMessage = failures.get(orderId);
+        if (Objects.nonNull(failureMessage)) {
+            return Optional.of(new OrderIngestionResponse(orderId, OrderIngestionStatus.FAILED.name(),
+                    failureMessage));
+        }
+        if (pendingOrderIds.contains(orderId)) {
+            return Optional.of(new OrderIngestionResponse(orderId, OrderIngestionStatus.PENDING.name(), null));
+        }
+        if (orderRepository.existsById(orderId) || orderArchiveRepository.existsById(orderId)) {
+            return Optional.of(new OrderIngestionResponse(orderId, OrderIngestionStatus.CONFIRMED.name(), null));
+        }
+
+        return Optional.empty();
+    }
+
+    private List<OrderLineItem> getOrderLineItems(final OrderRequest request) {
+        final List<OrderLineItemRequest> orderLineItemRequests = request.getOrderLineItems();
+        if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
+            throw new IllegalArgumentException("한 가지 이상의 주문 항목을 포함해야합니다.");
+        }
+
+        final List<Long> menuIds = orderLineItemRequests.stream()
+                .map(OrderLineItemRequest::getMenuId)
+                .collect(toList());
+        if (menuIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치하지 않습니다.");
+        }
+        if (menuIds.stream().distinct().count() != menuIds.size()) {
+            throw new IllegalArgumentException("주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치하지 않습니다.");
+        }
+        loadMenus(menuIds);
+
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (OrderLineItemRequest orderLineItemRequest : orderLineItemRequests) {
+            final MenuSummary menu = menus.get(orderLineItemRequest.getMenuId());
+            if (Objects.isNull(menu)) {
+                throw new IllegalArgumentException("주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치하지 않습니다.");
+            }
+            orderLineItems.add(new OrderLineItem(menu.getId(), menu.getName(), menu.getPrice(),
+                    orderLineItemRequest.getQuantity()));
+        }
+
+        return orderLineItems;
+    }
+
+    private void loadMenus(final List<Long> menuIds) {
+        final List<Long> missingMenuIds = menuIds.stream()
+                .filter(Objects::nonNull)
+                .filter(menuId -> !menus.containsKey(menuId))
+                .collect(toList());
+        if (missingMenuIds.isEmpty()) {
+            return;
+        }
+
+        menuRepository.findAllSummariesByIdIn(missingMenuIds)
+                .forEach(menu -> menus.put(menu.getId(), menu));
+    }
+
+    private void validateOrderableTable(final Long orderTableId) {
+        if (Objects.isNull(orderTableId)) {
+            throw new IllegalArgumentException(NOT_ORDERABLE_TABLE_MESSAGE);
+        }
+
+        final long now = System.currentTimeMillis();
+        final Long expiration = orderableTableExpirations.get(orderTableId);
+        if (Objects.nonNull(expiration) && expiration > now) {
+            return;
+        }
+
+        if (orderTableValidator.filterOrderableTableIds(List.of(orderTableId)).isEmpty()) {
+            orderableTableExpirations.remove(orderTableId);
+            throw new IllegalArgumentException(NOT_ORDERABLE_TABLE_MESSAGE);
+        }
+        orderableTableExpirations.put(orderTableId, now + ORDERABLE_TABLE_TTL_MILLIS);
+    }
+
+    private synchronized Long allocateOrderId() {
+        if (nextOrderId > lastOrderId) {
+            lastOrderId = orderJdbcRepository.nextOrderIdBlock();
+            nextOrderId = Math.max(1L, lastOrderId - Order.ID_ALLOCATION_SIZE + 1);
+        }
+
+        return nextOrderId++;
+    }
+
+    private void write() {
+        final List<Order> orders = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final Order order = queue.poll(POLL_TIMEOUT_MILLIS, MILLISECONDS);
+                if (Objects.isNull(order)) {
+                    continue;
+                }
+
+                orders.add(order);
+                queue.drainTo(orders, batchSize - 1);
+                commit(orders);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                orders.clear();
+            }
+        }
+    }
+
+    private void commit(final List<Order> orders) {
+        try {
+            final List<Order> confirmedOrders = transactionTemplate.execute(status -> insertOrderable(orders));
+            confirmedOrders.forEach(order -> pendingOrderIds.remove(order.getId()));
+        } catch (RuntimeException e) {
+            orders.forEach(order -> fail(order, WRITE_FAILURE_MESSAGE));
+        }
+    }
+
+    private List<Order> insertOrderable(final List<Order> orders) {
+        final Set<Long> orderableTableIds = orderTableValidator.filterOrderableTableIds(orders.stream()
+                .map(Order::getOrderTableId)
+                .distinct()
+                .collect(toList()));
+
+        final List<Order> orderableOrders = new ArrayList<>();
+        for (Order order : orders) {
+            if (orderableTableIds.contains(order.getOrderTableId())) {
+                orderableOrders.add(order);
+                continue;
+            }
+            fail(order, NOT_ORDERABLE_TABLE_MESSAGE);
+        }
+
+        orderJdbcRepository.insertAll(orderableOrders);
+        orderableOrders.forEach(order -> eventPublisher.publishEvent(OrderChangedEvent.created(
+                OrderResponse.from(order))));
+
+        return orderableOrders;
+    }
+
+    private void fail(final Order order, final String message) {
+        failures.put(order.getId(), message);
+        pendingOrderIds.remove(order.getId());
+    }
+}
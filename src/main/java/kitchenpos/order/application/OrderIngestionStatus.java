@@ -0,0 +1,5 @@
+package kitchenpos.order.application;
+
+public enum OrderIngestionStatus {
+    PENDING, CONFIRMED, FAILED
+}
@@ -1,99 +1,321 @@
 package kitchenpos.order.application;
 
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import kitchenpos.menu.domain.Menu;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import kitchenpos.menu.domain.MenuSummary;
 import kitchenpos.menu.domain.repository.MenuRepository;
+import kitchenpos.order.application.event.OrderChangedEvent;
 import kitchenpos.order.application.request.OrderLineItemRequest;
 import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.request.OrderStatusChangeRequest;
+import kitchenpos.order.application.response.OrderBatchResultResponse;
+import kitchenpos.order.application.response.OrderPageResponse;
 import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.application.response.OrderStatusChangeResultResponse;
 import kitchenpos.order.domain.Order;
 import kitchenpos.order.domain.OrderLineItem;
 import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.order.domain.OrderStatusSummary;
 import kitchenpos.order.domain.repository.OrderRepository;
 import kitchenpos.order.validator.OrderTableValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_ORDER_STATUS_CHANGE_ATTEMPTS = 3;
+
     private final MenuRepository menuRepository;
     private final OrderRepository orderRepository;
     private final OrderTableValidator orderTableValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public OrderService(
             final MenuRepository menuRepository,
             final OrderRepository orderRepository,
-            final OrderTableValidator orderTableValidator
+            final OrderTableValidator orderTableValidator,
+            final ApplicationEventPublisher eventPublisher,
+            final PlatformTransactionManager transactionManager
     ) {
         this.menuRepository = menuRepository;
         this.orderRepository = orderRepository;
         this.orderTableValidator = orderTableValidator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public OrderResponse create(final OrderRequest request) {
-        validateSavedMenuSize(request);
+        final List<MenuSummary> menus = findSavedMenus(request);
         orderTableValidator.validateOrderTableNotEmpty(request.getOrderTableId());
 
         final Order order = Order.of(request.getOrderTableId(), LocalDateTime.now(),
-                getOrderLineItems(request));
+                getOrderLineItems(request, menus));
         final Order savedOrder = orderRepository.save(order);
 
-        return OrderResponse.from(savedOrder);
+        final OrderResponse response = OrderResponse.from(savedOrder);
+        eventPublisher.publishEvent(OrderChangedEvent.created(response));
+        return response;
+    }
+
+    public List<OrderBatchResultResponse> createAll(final List<OrderRequest> requests) {
+        final Map<Long, MenuSummary> menus = findAllMenus(requests);
+        final Set<Long> orderableTableIds = orderTableValidator.filterOrderableTableIds(requests.stream()
+                .map(OrderRequest::getOrderTableId)
+                .distinct()
+                .collect(toList()));
+
+        final OrderBatchResultResponse[] results = new OrderBatchResultResponse[requests.size()];
+        final Map<Integer, Order> orders = new LinkedHashMap<>();
+        final LocalDateTime orderedTime = LocalDateTime.now();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                orders.put(index, toOrder(requests.get(index), menus, orderableTableIds, orderedTime));
+            } catch (IllegalArgumentException e) {
+                results[index] = OrderBatchResultResponse.failure(index, e.getMessage());
+            }
+        }
+
+        orderRepository.saveAll(orders.values());
+        orders.forEach((index, order) -> {
+            final OrderResponse response = OrderResponse.from(order);
+            eventPublisher.publishEvent(OrderChangedEvent.created(response));
+            results[index] = OrderBatchResultResponse.success(index, response);
+        });
+
+        return Arrays.asList(results);
     }
 
     @Transactional(readOnly = true)
-    public List<OrderResponse> list() {
-        final List<Order> orders = orderRepository.findAll();
+    public OrderPageResponse list(final String cursor, final int size) {
+        final int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        final List<Order> orders = findLatestOrders(cursor, PageRequest.of(0, pageSize + 1));
 
-        return orders.stream()
+        final List<OrderResponse> orderResponses = orders.stream()
+                .limit(pageSize)
                 .map(OrderResponse::from)
                 .collect(toList());
+
+        return new OrderPageResponse(orderResponses, getNextCursor(orders, pageSize));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OrderResponse changeOrderStatus(final Long orderId, final OrderRequest request) {
+        final OrderStatus orderStatus = OrderStatus.valueOf(request.getOrderStatus());
+
+        for (int attempt = 0; attempt < MAX_ORDER_STATUS_CHANGE_ATTEMPTS; attempt++) {
+            final Optional<OrderResponse> response = transactionTemplate.execute(
+                    status -> tryChangeOrderStatus(orderId, orderStatus));
+            if (response.isPresent()) {
+                return response.get();
+            }
+        }
+
+        throw new IllegalStateException("주문 상태 변경 요청이 동시에 몰려 처리하지 못했습니다. 다시 시도해주세요.");
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<OrderStatusChangeResultResponse> changeOrderStatuses(final OrderStatusChangeRequest request) {
+        final OrderStatus orderStatus = OrderStatus.valueOf(request.getOrderStatus());
+        final List<Long> orderIds = request.getOrderIds()
+                .stream()
+                .distinct()
+                .collect(toList());
+        if (orderIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        for (int attempt = 0; attempt < MAX_ORDER_STATUS_CHANGE_ATTEMPTS; attempt++) {
+            final Optional<List<OrderStatusChangeResultResponse>> responses = transactionTemplate.execute(
+                    status -> tryChangeOrderStatuses(orderIds, orderStatus, status));
+            if (responses.isPresent()) {
+                return responses.get();
+            }
+        }
+
+        throw new IllegalStateException("주문 상태 변경 요청이 동시에 몰려 처리하지 못했습니다. 다시 시도해주세요.");
+    }
+
+    private Optional<List<OrderStatusChangeResultResponse>> tryChangeOrderStatuses(final List<Long> orderIds,
+                                                                                  final OrderStatus orderStatus,
+                                                                                  final TransactionStatus status) {
+        final Map<Long, OrderStatus> savedOrderStatuses = orderRepository.findAllStatusSummariesByIdIn(orderIds)
+                .stream()
+                .collect(toMap(OrderStatusSummary::getId, OrderStatusSummary::getOrderStatus));
+        final List<Long> changeableOrderIds = orderIds.stream()
+                .filter(savedOrderStatuses::containsKey)
+                .filter(orderId -> savedOrderStatuses.get(orderId).canChangeTo(orderStatus))
+                .collect(toList());
+
+        if (!changeOrderStatuses(changeableOrderIds, orderStatus)) {
+            status.setRollbackOnly();
+            return Optional.empty();
+        }
+
+        final Set<Long> changedOrderIds = new HashSet<>(changeableOrderIds);
+        return Optional.of(orderIds.stream()
+                .map(orderId -> new OrderStatusChangeResultResponse(orderId,
+                        getOrderStatusChangeResult(orderId, savedOrderStatuses, changedOrderIds).name()))
+                .collect(toList()));
+    }
+
+    private boolean changeOrderStatuses(final List<Long> orderIds, final OrderStatus orderStatus) {
+        if (orderIds.isEmpty()) {
+            return true;
+        }
+
+        if (orderRepository.updateOrderStatuses(orderIds, OrderStatus.changeableTo(orderStatus), orderStatus)
+                != orderIds.size()) {
+            return false;
+        }
+        orderRepository.findAllById(orderIds)
+                .forEach(order -> eventPublisher.publishEvent(OrderChangedEvent.statusChanged(
+                        OrderResponse.from(order))));
+
+        return true;
+    }
+
+    private static OrderStatusChangeResult getOrderStatusChangeResult(final Long orderId,
+                                                                      final Map<Long, OrderStatus> savedOrderStatuses,
+                                                                      final Set<Long> changedOrderIds) {
+        if (!savedOrderStatuses.containsKey(orderId)) {
+            return OrderStatusChangeResult.NOT_FOUND;
+        }
+        if (changedOrderIds.contains(orderId)) {
+            return OrderStatusChangeResult.CHANGED;
+        }
+
+        return OrderStatusChangeResult.NOT_CHANGEABLE;
+    }
+
+    private Optional<OrderResponse> tryChangeOrderStatus(final Long orderId, final OrderStatus orderStatus) {
         final Order savedOrder = orderRepository.findById(orderId)
                 .orElseThrow(IllegalArgumentException::new);
+        savedOrder.validateChangeableTo(orderStatus);
 
-        final OrderStatus orderStatus = OrderStatus.valueOf(request.getOrderStatus());
-        savedOrder.changeOrderStatus(orderStatus);
+        if (orderRepository.updateOrderStatus(orderId, savedOrder.getVersion(),
+                OrderStatus.changeableTo(orderStatus), orderStatus) == 0) {
+            return Optional.empty();
+        }
 
-        return OrderResponse.from(savedOrder);
+        return Optional.of(publishStatusChanged(orderId));
     }
 
-    private void validateSavedMenuSize(final OrderRequest request) {
-        final List<Long> menuIds = request.getOrderLineItems()
+    private OrderResponse publishStatusChanged(final Long orderId) {
+        final Order changedOrder = orderRepository.findById(orderId)
+                .orElseThrow(IllegalArgumentException::new);
+
+        final OrderResponse response = OrderResponse.from(changedOrder);
+        eventPublisher.publishEvent(OrderChangedEvent.statusChanged(response));
+        return response;
+    }
+
+    private List<Order> findLatestOrders(final String cursor, final Pageable pageable) {
+        if (Objects.isNull(cursor)) {
+            return orderRepository.findLatest(pageable);
+        }
+
+        final OrderCursor orderCursor = OrderCursor.decode(cursor);
+        return orderRepository.findLatestBefore(orderCursor.getOrderedTime(), orderCursor.getId(), pageable);
+    }
+
+    private static String getNextCursor(final List<Order> orders, final int pageSize) {
+        if (orders.size() <= pageSize) {
+            return null;
+        }
+
+        final Order lastOrder = orders.get(pageSize - 1);
+        return new OrderCursor(lastOrder.getOrderedTime(), lastOrder.getId()).encode();
+    }
+
+    private Map<Long, MenuSummary> findAllMenus(final List<OrderRequest> requests) {
+        final Set<Long> menuIds = requests.stream()
+                .map(OrderRequest::getOrderLineItems)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(OrderLineItemRequest::getMenuId)
+                .filter(Objects::nonNull)
+                .collect(toSet());
+
+        if (menuIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return menuRepository.findAllSummariesByIdIn(menuIds)
+                .stream()
+                .collect(toMap(MenuSummary::getId, identity()));
+    }
+
+    private static Order toOrder(final OrderRequest request, final Map<Long, MenuSummary> menus,
+                                 final Set<Long> orderableTableIds, final LocalDateTime orderedTime) {
+        if (Objects.isNull(request.getOrderLineItems())) {
+            throw new IllegalArgumentException("한 가지 이상의 주문 항목을 포함해야합니다.");
+        }
+
+        final List<MenuSummary> orderedMenus = request.getOrderLineItems()
                 .stream()
                 .map(OrderLineItemRequest::getMenuId)
+                .distinct()
+                .filter(menus::containsKey)
+                .map(menus::get)
                 .collect(toList());
-
-        if (request.getOrderLineItems().size() != menuRepository.countByIdIn(menuIds)) {
+        if (request.getOrderLineItems().size() != orderedMenus.size()) {
             throw new IllegalArgumentException("주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치하지 않습니다.");
         }
+        if (!orderableTableIds.contains(request.getOrderTableId())) {
+            throw new IllegalArgumentException("주문 테이블이 비어있으면 주문을 생성할 수 없다.");
+        }
+
+        return Order.of(request.getOrderTableId(), orderedTime, getOrderLineItems(request, orderedMenus));
     }
 
-    private List<OrderLineItem> getOrderLineItems(final OrderRequest request) {
-        final List<OrderLineItemRequest> orderLineItemRequests = request.getOrderLineItems();
-        final Map<Long, Long> menuAndQuantity = orderLineItemRequests.stream()
-                .collect(toMap(OrderLineItemRequest::getMenuId, OrderLineItemRequest::getQuantity));
+    private List<MenuSummary> findSavedMenus(final OrderRequest request) {
+        final List<Long> menuIds = request.getOrderLineItems()
+                .stream()
+                .map(OrderLineItemRequest::getMenuId)
+                .collect(toList());
 
-        final List<Menu> menus = menuRepository.findAllById(menuAndQuantity.keySet());
+        final List<MenuSummary> menus = menuIds.isEmpty() ? List.of() : menuRepository.findAllSummariesByIdIn(menuIds);
+        if (request.getOrderLineItems().size() != menus.size()) {
+            throw new IllegalArgumentException("주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치하지 않습니다.");
+        }
 
-        return getOrderLineItems(menuAndQuantity, menus);
+        return menus;
     }
 
-    private static List<OrderLineItem> getOrderLineItems(final Map<Long, Long> menuAndQuantity,
-                                                         final List<Menu> menus) {
+    private static List<OrderLineItem> getOrderLineItems(final OrderRequest request, final List<MenuSummary> menus) {
+        final Map<Long, Long> menuAndQuantity = request.getOrderLineItems()
+                .stream()
+                .collect(toMap(OrderLineItemRequest::getMenuId, OrderLineItemRequest::getQuantity));
+
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
-        for (Menu menu : menus) {
-            final OrderLineItem orderLineItem = new OrderLineItem(menu, menuAndQuantity.get(menu.getId()));
+        for (MenuSummary menu : menus) {
+            final OrderLineItem orderLineItem = new OrderLineItem(menu.getId(), menu.getName(), menu.getPrice(),
+                    menuAndQuantity.get(menu.getId()));
             orderLineItems.add(orderLineItem);
         }
 
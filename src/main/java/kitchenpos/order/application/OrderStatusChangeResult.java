@@ -0,0 +1,5 @@
+package kitchenpos.order.application;
+
+public enum OrderStatusChangeResult {
+    CHANGED, NOT_FOUND, NOT_CHANGEABLE
+}
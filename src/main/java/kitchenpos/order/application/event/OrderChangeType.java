@@ -0,0 +1,5 @@
+package kitchenpos.order.application.event;
+
+public enum OrderChangeType {
+    CREATED, STATUS_CHANGED
+}
@@ -0,0 +1,30 @@
+package kitchenpos.order.application.event;
+
+import kitchenpos.order.application.response.OrderResponse;
+
+public class OrderChangedEvent {
+
+    private final OrderChangeType type;
+    private final OrderResponse order;
+
+    public OrderChangedEvent(final OrderChangeType type, final OrderResponse order) {
+        this.type = type;
+        this.order = order;
+    }
+
+    public static OrderChangedEvent created(final OrderResponse order) {
+        return new OrderChangedEvent(OrderChangeType.CREATED, order);
+    }
+
+    public static OrderChangedEvent statusChanged(final OrderResponse order) {
+        return new OrderChangedEvent(OrderChangeType.STATUS_CHANGED, order);
+    }
+
+    public OrderChangeType getType() {
+        return type;
+    }
+
+    public OrderResponse getOrder() {
+        return order;
+    }
+}
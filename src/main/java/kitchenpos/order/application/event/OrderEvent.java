@@ -0,0 +1,20 @@
+package kitchenpos.order.application.event;
+
+public class OrderEvent {
+
+    private final long id;
+    private final OrderChangedEvent changedEvent;
+
+    public OrderEvent(final long id, final OrderChangedEvent changedEvent) {
+        this.id = id;
+        this.changedEvent = changedEvent;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public OrderChangedEvent getChangedEvent() {
+        return changedEvent;
+    }
+}
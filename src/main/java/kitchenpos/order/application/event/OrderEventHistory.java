@@ -0,0 +1,47 @@
+package kitchenpos.order.application.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class OrderEventHistory {
+
+    private final OrderEvent[] events;
+    private final long firstEventId;
+    private long lastEventId;
+
+    public OrderEventHistory(final int capacity, final long firstEventId) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("이벤트 기록의 크기는 0보다 커야 합니다.");
+        }
+
+        this.events = new OrderEvent[capacity];
+        this.firstEventId = firstEventId;
+        this.lastEventId = firstEventId - 1;
+    }
+
+    public synchronized OrderEvent append(final OrderChangedEvent changedEvent) {
+        final OrderEvent event = new OrderEvent(++lastEventId, changedEvent);
+        events[indexOf(event.getId())] = event;
+
+        return event;
+    }
+
+    public synchronized Optional<List<OrderEvent>> findAllAfter(final long eventId) {
+        final long oldestEventId = Math.max(firstEventId, lastEventId - events.length + 1);
+        if (eventId < oldestEventId - 1 || eventId > lastEventId) {
+            return Optional.empty();
+        }
+
+        final List<OrderEvent> missedEvents = new ArrayList<>();
+        for (long id = eventId + 1; id <= lastEventId; id++) {
+            missedEvents.add(events[indexOf(id)]);
+        }
+
+        return Optional.of(missedEvents);
+    }
+
+    private int indexOf(final long eventId) {
+        return (int) Math.floorMod(eventId, (long) events.length);
+    }
+}
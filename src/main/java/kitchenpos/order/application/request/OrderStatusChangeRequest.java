@@ -0,0 +1,24 @@
+package kitchenpos.order.application.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.List;
+
+public class OrderStatusChangeRequest {
+
+    private List<Long> orderIds;
+    private String orderStatus;
+
+    @JsonCreator
+    public OrderStatusChangeRequest(final List<Long> orderIds, final String orderStatus) {
+        this.orderIds = orderIds;
+        this.orderStatus = orderStatus;
+    }
+
+    public List<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+}
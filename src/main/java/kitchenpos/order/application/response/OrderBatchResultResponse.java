@@ -0,0 +1,37 @@
+package kitchenpos.order.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public class OrderBatchResultResponse {
+
+    private int index;
+    private OrderResponse order;
+    private String message;
+
+    @JsonCreator
+    public OrderBatchResultResponse(final int index, final OrderResponse order, final String message) {
+        this.index = index;
+        this.order = order;
+        this.message = message;
+    }
+
+    public static OrderBatchResultResponse success(final int index, final OrderResponse order) {
+        return new OrderBatchResultResponse(index, order, null);
+    }
+
+    public static OrderBatchResultResponse failure(final int index, final String message) {
+        return new OrderBatchResultResponse(index, null, message);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public OrderResponse getOrder() {
+        return order;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,29 @@
+package kitchenpos.order.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public class OrderIngestionResponse {
+
+    private Long orderId;
+    private String status;
+    private String message;
+
+    @JsonCreator
+    public OrderIngestionResponse(final Long orderId, final String status, final String message) {
+        this.orderId = orderId;
+        this.status = status;
+        this.message = message;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
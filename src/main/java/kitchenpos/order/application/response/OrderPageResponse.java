@@ -0,0 +1,24 @@
+package kitchenpos.order.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.List;
+
+public class OrderPageResponse {
+
+    private List<OrderResponse> orders;
+    private String nextCursor;
+
+    @JsonCreator
+    public OrderPageResponse(final List<OrderResponse> orders, final String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,23 @@
+package kitchenpos.order.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public class OrderStatusChangeResultResponse {
+
+    private Long orderId;
+    private String result;
+
+    @JsonCreator
+    public OrderStatusChangeResultResponse(final Long orderId, final String result) {
+        this.orderId = orderId;
+        this.result = result;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public String getResult() {
+        return result;
+    }
+}
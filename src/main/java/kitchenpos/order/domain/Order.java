@@ -1,7 +1,7 @@
 package kitchenpos.order.domain;
 
 import static javax.persistence.EnumType.STRING;
-import static javax.persistence.GenerationType.IDENTITY;
+import static javax.persistence.GenerationType.SEQUENCE;
 import static kitchenpos.order.domain.OrderStatus.*;
 
 import java.time.LocalDateTime;
@@ -13,15 +13,21 @@ import javax.persistence.Entity;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import org.springframework.util.CollectionUtils;
 
 @Entity
 @Table(name = "orders")
 public class Order {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "order_table_id", nullable = false)
@@ -37,6 +43,9 @@ public class Order {
     @Embedded
     private OrderLineItems orderLineItems;
 
+    @Version
+    private Long version;
+
     protected Order() {
     }
 
@@ -64,11 +73,18 @@ public class Order {
     }
 
     public void changeOrderStatus(OrderStatus orderStatus) {
+        validateChangeableTo(orderStatus);
+
+        this.orderStatus = orderStatus;
+    }
+
+    public void validateChangeableTo(final OrderStatus orderStatus) {
         if (Objects.equals(this.orderStatus, COMPLETION)) {
             throw new IllegalArgumentException("이미 계산 완료 상태이므로 주문 상태 변경이 불가합니다.");
         }
-
-        this.orderStatus = orderStatus;
+        if (!this.orderStatus.canChangeTo(orderStatus)) {
+            throw new IllegalArgumentException("주문 상태는 조리, 식사, 계산 완료 순서로만 변경할 수 있습니다.");
+        }
     }
 
     public Long getId() {
@@ -87,6 +103,10 @@ public class Order {
         return orderedTime;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<OrderLineItem> getOrderLineItems() {
         return orderLineItems.getOrderLineItems();
     }
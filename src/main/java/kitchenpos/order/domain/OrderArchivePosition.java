@@ -0,0 +1,31 @@
+package kitchenpos.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class OrderArchivePosition {
+
+    private final LocalDateTime orderedTime;
+    private final Long orderId;
+
+    public OrderArchivePosition(final LocalDateTime orderedTime, final Long orderId) {
+        this.orderedTime = orderedTime;
+        this.orderId = orderId;
+    }
+
+    public static OrderArchivePosition initial() {
+        return new OrderArchivePosition(null, null);
+    }
+
+    public boolean isInitial() {
+        return Objects.isNull(orderedTime) || Objects.isNull(orderId);
+    }
+
+    public LocalDateTime getOrderedTime() {
+        return orderedTime;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+}
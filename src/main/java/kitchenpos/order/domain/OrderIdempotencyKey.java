@@ -0,0 +1,71 @@
+package kitchenpos.order.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+public class OrderIdempotencyKey implements Persistable<String> {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String key;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    private String requestHash;
+
+    @Column(nullable = false)
+    private LocalDateTime createdTime;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected OrderIdempotencyKey() {
+    }
+
+    public OrderIdempotencyKey(final String key, final Long orderId, final String requestHash,
+                               final LocalDateTime createdTime) {
+        this.key = key;
+        this.orderId = orderId;
+        this.requestHash = requestHash;
+        this.createdTime = createdTime;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public boolean isRequestedBy(final String requestHash) {
+        return Objects.isNull(this.requestHash) || this.requestHash.equals(requestHash);
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getCreatedTime() {
+        return createdTime;
+    }
+}
@@ -1,8 +1,10 @@
 package kitchenpos.order.domain;
 
-import java.math.BigDecimal;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Embeddable;
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.domain.MoneyConverter;
 import kitchenpos.menu.domain.Menu;
 
 @Embeddable
@@ -14,8 +16,9 @@ public class OrderLineItem {
     @Column(nullable = false)
     private String menuName;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false)
-    private BigDecimal menuPrice;
+    private Money menuPrice;
 
     @Column(nullable = false)
     private long quantity;
@@ -27,7 +30,7 @@ public class OrderLineItem {
         this(menu.getId(), menu.getName(), menu.getPrice(), quantity);
     }
 
-    public OrderLineItem(final Long menuId, final String menuName, final BigDecimal menuPrice, final long quantity) {
+    public OrderLineItem(final Long menuId, final String menuName, final Money menuPrice, final long quantity) {
         this.menuId = menuId;
         this.menuName = menuName;
         this.menuPrice = menuPrice;
@@ -42,7 +45,7 @@ public class OrderLineItem {
         return menuName;
     }
 
-    public BigDecimal getMenuPrice() {
+    public Money getMenuPrice() {
         return menuPrice;
     }
 
@@ -5,10 +5,12 @@ import javax.persistence.CollectionTable;
 import javax.persistence.ElementCollection;
 import javax.persistence.Embeddable;
 import javax.persistence.JoinColumn;
+import org.hibernate.annotations.BatchSize;
 
 @Embeddable
 public class OrderLineItems {
 
+    @BatchSize(size = 100)
     @ElementCollection
     @CollectionTable(name = "order_line_item", joinColumns = @JoinColumn(name = "order_id"))
     private List<OrderLineItem> orderLineItems;
@@ -1,5 +1,20 @@
 package kitchenpos.order.domain;
 
+import static java.util.stream.Collectors.toList;
+
+import java.util.Arrays;
+import java.util.List;
+
 public enum OrderStatus {
-    COOKING, MEAL, COMPLETION
+    COOKING, MEAL, COMPLETION;
+
+    public boolean canChangeTo(final OrderStatus orderStatus) {
+        return ordinal() < orderStatus.ordinal();
+    }
+
+    public static List<OrderStatus> changeableTo(final OrderStatus orderStatus) {
+        return Arrays.stream(values())
+                .filter(it -> it.canChangeTo(orderStatus))
+                .collect(toList());
+    }
 }
@@ -0,0 +1,20 @@
+package kitchenpos.order.domain;
+
+public class OrderStatusSummary {
+
+    private final Long id;
+    private final OrderStatus orderStatus;
+
+    public OrderStatusSummary(final Long id, final OrderStatus orderStatus) {
+        this.id = id;
+        this.orderStatus = orderStatus;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+}
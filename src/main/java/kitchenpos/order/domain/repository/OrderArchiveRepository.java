@@ -0,0 +1,150 @@
+package kitchenpos.order.domain.repository;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import kitchenpos.common.domain.Money;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderArchivePosition;
+import kitchenpos.order.domain.OrderLineItem;
+import kitchenpos.order.domain.OrderStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OrderArchiveRepository {
+
+    private static final long CHECKPOINT_ID = 1L;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OrderArchiveRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public OrderArchivePosition lockCheckpoint() {
+        return jdbcTemplate.queryForObject(
+                "SELECT last_ordered_time, last_order_id FROM order_archive_checkpoint WHERE id = :id FOR UPDATE",
+                new MapSqlParameterSource("id", CHECKPOINT_ID),
+                (rs, rowNum) -> new OrderArchivePosition(toLocalDateTime(rs.getTimestamp("last_ordered_time")),
+                        rs.getObject("last_order_id", Long.class)));
+    }
+
+    public void saveCheckpoint(final OrderArchivePosition position) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("id", CHECKPOINT_ID)
+                .addValue("lastOrderedTime", toTimestamp(position.getOrderedTime()))
+                .addValue("lastOrderId", position.getOrderId());
+
+        jdbcTemplate.update("UPDATE order_archive_checkpoint"
+                + " SET last_ordered_time = :lastOrderedTime, last_order_id = :lastOrderId WHERE id = :id", parameters);
+    }
+
+    public List<OrderArchivePosition> findArchivablePositions(final LocalDateTime orderedBefore,
+                                                              final OrderArchivePosition after, final int size) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("orderStatus", OrderStatus.COMPLETION.name())
+                .addValue("orderedBefore", toTimestamp(orderedBefore))
+                .addValue("size", size);
+
+        String sql = "SELECT id, ordered_time FROM orders"
+                + " WHERE order_status = :orderStatus AND ordered_time < :orderedBefore";
+        if (!after.isInitial()) {
+            sql += " AND (ordered_time > :afterOrderedTime OR (ordered_time = :afterOrderedTime AND id > :afterId))";
+            parameters.addValue("afterOrderedTime", toTimestamp(after.getOrderedTime()))
+                    .addValue("afterId", after.getOrderId());
+        }
+        sql += " ORDER BY ordered_time, id LIMIT :size";
+
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) ->
+                new OrderArchivePosition(toLocalDateTime(rs.getTimestamp("ordered_time")), rs.getLong("id")));
+    }
+
+    public void moveToArchive(final List<Long> orderIds, final LocalDateTime archivedTime) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("orderIds", orderIds)
+                .addValue("archivedTime", toTimestamp(archivedTime));
+
+        jdbcTemplate.update("INSERT INTO orders_archive (id, order_table_id, order_status, ordered_time, archived_time)"
+                + " SELECT id, order_table_id, order_status, ordered_time, :archivedTime"
+                + " FROM orders WHERE id IN (:orderIds)", parameters);
+        jdbcTemplate.update("INSERT INTO order_line_item_archive"
+                + " (seq, order_id, menu_id, menu_name, menu_price, quantity)"
+                + " SELECT seq, order_id, menu_id, menu_name, menu_price, quantity"
+                + " FROM order_line_item WHERE order_id IN (:orderIds)", parameters);
+        jdbcTemplate.update("DELETE FROM order_line_item WHERE order_id IN (:orderIds)", parameters);
+        jdbcTemplate.update("DELETE FROM orders WHERE id IN (:orderIds)", parameters);
+    }
+
+    public boolean existsById(final Long orderId) {
+        final Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders_archive WHERE id = :id",
+                new MapSqlParameterSource("id", orderId), Long.class);
+
+        return Objects.nonNull(count) && count > 0;
+    }
+
+    public List<Order> findArchivedOrders(final OrderArchivePosition before, final int size) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("size", size);
+
+        String sql = "SELECT id, order_table_id, order_status, ordered_time FROM orders_archive";
+        if (!before.isInitial()) {
+            sql += " WHERE ordered_time <= :beforeOrderedTime"
+                    + " AND (ordered_time < :beforeOrderedTime OR id < :beforeId)";
+            parameters.addValue("beforeOrderedTime", toTimestamp(before.getOrderedTime()))
+                    .addValue("beforeId", before.getOrderId());
+        }
+        sql += " ORDER BY ordered_time DESC, id DESC LIMIT :size";
+
+        final List<Order> orders = jdbcTemplate.query(sql, parameters, (rs, rowNum) -> toOrder(rs));
+        final Map<Long, List<OrderLineItem>> orderLineItems = findArchivedOrderLineItems(orders.stream()
+                .map(Order::getId)
+                .collect(toList()));
+
+        return orders.stream()
+                .map(order -> new Order(order.getId(), order.getOrderTableId(), order.getOrderStatus(),
+                        order.getOrderedTime(), orderLineItems.getOrDefault(order.getId(), Collections.emptyList())))
+                .collect(toList());
+    }
+
+    private Map<Long, List<OrderLineItem>> findArchivedOrderLineItems(final List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final List<Map.Entry<Long, OrderLineItem>> orderLineItems = jdbcTemplate.query(
+                "SELECT order_id, menu_id, menu_name, menu_price, quantity"
+                        + " FROM order_line_item_archive WHERE order_id IN (:orderIds) ORDER BY seq",
+                new MapSqlParameterSource("orderIds", orderIds),
+                (rs, rowNum) -> Map.entry(rs.getLong("order_id"), new OrderLineItem(rs.getLong("menu_id"),
+                        rs.getString("menu_name"), Money.from(rs.getBigDecimal("menu_price")),
+                        rs.getLong("quantity"))));
+
+        return orderLineItems.stream()
+                .collect(groupingBy(Map.Entry::getKey, mapping(Map.Entry::getValue, toList())));
+    }
+
+    private static Order toOrder(final ResultSet rs) throws SQLException {
+        return new Order(rs.getLong("id"), rs.getLong("order_table_id"),
+                OrderStatus.valueOf(rs.getString("order_status")), toLocalDateTime(rs.getTimestamp("ordered_time")),
+                Collections.emptyList());
+    }
+
+    private static Timestamp toTimestamp(final LocalDateTime localDateTime) {
+        return Objects.isNull(localDateTime) ? null : Timestamp.valueOf(localDateTime);
+    }
+
+    private static LocalDateTime toLocalDateTime(final Timestamp timestamp) {
+        return Objects.isNull(timestamp) ? null : timestamp.toLocalDateTime();
+    }
+}
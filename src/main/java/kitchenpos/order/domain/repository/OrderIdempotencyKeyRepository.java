@@ -0,0 +1,15 @@
+package kitchenpos.order.domain.repository;
+
+import java.time.LocalDateTime;
+import kitchenpos.order.domain.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, String> {
+
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.createdTime < :createdTime")
+    int deleteAllByCreatedTimeBefore(@Param("createdTime") LocalDateTime createdTime);
+}
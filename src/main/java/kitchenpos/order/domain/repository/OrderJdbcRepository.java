@@ -0,0 +1,51 @@
+package kitchenpos.order.domain.repository;
+
+import static java.util.stream.Collectors.toList;
+
+import java.sql.Timestamp;
+import java.util.List;
+import kitchenpos.order.domain.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OrderJdbcRepository {
+
+    private static final String NEXT_ORDER_ID_SQL = "SELECT NEXT VALUE FOR orders_seq";
+    private static final String INSERT_ORDER_SQL = "INSERT INTO orders (id, order_table_id, order_status, ordered_time)"
+            + " VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ORDER_LINE_ITEM_SQL = "INSERT INTO order_line_item"
+            + " (order_id, menu_id, menu_name, menu_price, quantity) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderJdbcRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long nextOrderIdBlock() {
+        return jdbcTemplate.queryForObject(NEXT_ORDER_ID_SQL, Long.class);
+    }
+
+    public void insertAll(final List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, orders, orders.size(), (ps, order) -> {
+            ps.setLong(1, order.getId());
+            ps.setLong(2, order.getOrderTableId());
+            ps.setString(3, order.getOrderStatus().name());
+            ps.setTimestamp(4, Timestamp.valueOf(order.getOrderedTime()));
+        });
+
+        final List<Object[]> orderLineItems = orders.stream()
+                .flatMap(order -> order.getOrderLineItems()
+                        .stream()
+                        .map(orderLineItem -> new Object[]{order.getId(), orderLineItem.getMenuId(),
+                                orderLineItem.getMenuName(), orderLineItem.getMenuPrice().toBigDecimal(),
+                                orderLineItem.getQuantity()}))
+                .collect(toList());
+        jdbcTemplate.batchUpdate(INSERT_ORDER_LINE_ITEM_SQL, orderLineItems);
+    }
+}
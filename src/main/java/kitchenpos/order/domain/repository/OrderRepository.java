@@ -1,12 +1,44 @@
 package kitchenpos.order.domain.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.order.domain.OrderStatusSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    boolean existsByOrderTableIdAndOrderStatusIn(Long orderTableId, List<String> orderStatuses);
+    List<Order> findAllByOrderTableIdInAndOrderStatusIn(List<Long> orderTableIds, List<OrderStatus> orderStatuses);
 
-    boolean existsByOrderTableIdInAndOrderStatusIn(List<Long> orderTableIds, List<String> orderStatuses);
+    @Query("select new kitchenpos.order.domain.OrderStatusSummary(o.id, o.orderStatus) from Order o"
+            + " where o.id in :ids")
+    List<OrderStatusSummary> findAllStatusSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("select o from Order o order by o.orderedTime desc, o.id desc")
+    List<Order> findLatest(Pageable pageable);
+
+    @Query("select o from Order o"
+            + " where o.orderedTime <= :orderedTime and (o.orderedTime < :orderedTime or o.id < :id)"
+            + " order by o.orderedTime desc, o.id desc")
+    List<Order> findLatestBefore(@Param("orderedTime") LocalDateTime orderedTime, @Param("id") Long id,
+                                 Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.orderStatus = :orderStatus, o.version = o.version + 1"
+            + " where o.id = :id and o.version = :version and o.orderStatus in :changeableStatuses")
+    int updateOrderStatus(@Param("id") Long id, @Param("version") Long version,
+                          @Param("changeableStatuses") List<OrderStatus> changeableStatuses,
+                          @Param("orderStatus") OrderStatus orderStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.orderStatus = :orderStatus, o.version = o.version + 1"
+            + " where o.id in :ids and o.orderStatus in :changeableStatuses")
+    int updateOrderStatuses(@Param("ids") List<Long> ids,
+                            @Param("changeableStatuses") List<OrderStatus> changeableStatuses,
+                            @Param("orderStatus") OrderStatus orderStatus);
 }
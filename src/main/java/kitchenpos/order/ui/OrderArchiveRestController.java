@@ -0,0 +1,26 @@
+package kitchenpos.order.ui;
+
+import kitchenpos.order.application.OrderArchiveService;
+import kitchenpos.order.application.response.OrderPageResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class OrderArchiveRestController {
+
+    private final OrderArchiveService orderArchiveService;
+
+    public OrderArchiveRestController(final OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+
+    @GetMapping("/api/orders/archive")
+    public ResponseEntity<OrderPageResponse> listArchived(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size
+    ) {
+        return ResponseEntity.ok().body(orderArchiveService.listArchived(cursor, size));
+    }
+}
@@ -0,0 +1,141 @@
+package kitchenpos.order.ui;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import kitchenpos.order.application.event.OrderChangedEvent;
+import kitchenpos.order.application.event.OrderEvent;
+import kitchenpos.order.application.event.OrderEventHistory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+@Component
+public class OrderEventStream {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final int HISTORY_CAPACITY = 1000;
+    private static final int SUBSCRIBER_QUEUE_CAPACITY = HISTORY_CAPACITY;
+    private static final int DISPATCHER_THREADS = 4;
+    private static final int DISPATCHER_QUEUE_CAPACITY = 1000;
+    private static final String RESET_EVENT_NAME = "reset";
+
+    private final List<OrderEventSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final OrderEventHistory history = new OrderEventHistory(HISTORY_CAPACITY,
+            System.currentTimeMillis() * 1000);
+    private final ExecutorService dispatcher = new ThreadPoolExecutor(DISPATCHER_THREADS, DISPATCHER_THREADS,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(DISPATCHER_QUEUE_CAPACITY), runnable -> {
+        final Thread thread = new Thread(runnable, "order-event-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SseEmitter subscribe(final Long lastEventId) {
+        final SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        final OrderEventSubscriber subscriber = new OrderEventSubscriber(emitter, SUBSCRIBER_QUEUE_CAPACITY);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        register(subscriber, lastEventId);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void publish(final OrderChangedEvent changedEvent) {
+        final OrderEvent event = history.append(changedEvent);
+        for (OrderEventSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(toSseEvent(event))) {
+                subscribers.remove(subscriber);
+            }
+            dispatch(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.getEmitter().complete());
+    }
+
+    private synchronized void register(final OrderEventSubscriber subscriber, final Long lastEventId) {
+        if (Objects.nonNull(lastEventId)) {
+            replay(subscriber, lastEventId);
+        }
+
+        subscribers.add(subscriber);
+        dispatch(subscriber);
+    }
+
+    private void replay(final OrderEventSubscriber subscriber, final long lastEventId) {
+        final Optional<List<OrderEvent>> missedEvents = history.findAllAfter(lastEventId);
+        if (missedEvents.isEmpty()) {
+            subscriber.offer(SseEmitter.event().name(RESET_EVENT_NAME).data(RESET_EVENT_NAME));
+            return;
+        }
+
+        missedEvents.get().forEach(event -> subscriber.offer(toSseEvent(event)));
+    }
+
+    private void dispatch(final OrderEventSubscriber subscriber) {
+        if (!subscriber.schedule()) {
+            return;
+        }
+
+        try {
+            dispatcher.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscribers.remove(subscriber);
+            subscriber.getEmitter().complete();
+        }
+    }
+
+    private void drain(final OrderEventSubscriber subscriber) {
+        SseEventBuilder event = subscriber.poll();
+        while (Objects.nonNull(event) && !subscriber.isOverflowed()) {
+            if (!send(subscriber, event)) {
+                return;
+            }
+            event = subscriber.poll();
+        }
+
+        if (subscriber.isOverflowed()) {
+            subscriber.getEmitter().complete();
+            return;
+        }
+
+        subscriber.unschedule();
+        if (subscriber.hasEvents() || subscriber.isOverflowed()) {
+            dispatch(subscriber);
+        }
+    }
+
+    private boolean send(final OrderEventSubscriber subscriber, final SseEventBuilder event) {
+        try {
+            subscriber.getEmitter().send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.getEmitter().completeWithError(e);
+            return false;
+        }
+    }
+
+    private static SseEventBuilder toSseEvent(final OrderEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(event.getChangedEvent().getType().name())
+                .data(event.getChangedEvent().getOrder(), MediaType.APPLICATION_JSON);
+    }
+}
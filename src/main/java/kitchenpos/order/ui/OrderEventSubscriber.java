@@ -0,0 +1,54 @@
+package kitchenpos.order.ui;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class OrderEventSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEventBuilder> events;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean overflowed;
+
+    OrderEventSubscriber(final SseEmitter emitter, final int capacity) {
+        this.emitter = emitter;
+        this.events = new ArrayBlockingQueue<>(capacity);
+    }
+
+    boolean offer(final SseEventBuilder event) {
+        if (overflowed || !events.offer(event)) {
+            overflowed = true;
+            events.clear();
+            return false;
+        }
+
+        return true;
+    }
+
+    SseEventBuilder poll() {
+        return events.poll();
+    }
+
+    boolean hasEvents() {
+        return !events.isEmpty();
+    }
+
+    boolean isOverflowed() {
+        return overflowed;
+    }
+
+    boolean schedule() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void unschedule() {
+        scheduled.set(false);
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+}
@@ -0,0 +1,52 @@
+package kitchenpos.order.ui;
+
+import java.net.URI;
+import kitchenpos.order.application.OrderIngestionService;
+import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.response.OrderIngestionResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnProperty(name = "kitchenpos.order.ingestion.enabled", havingValue = "true")
+public class OrderIngestionRestController {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final OrderIngestionService orderIngestionService;
+
+    public OrderIngestionRestController(final OrderIngestionService orderIngestionService) {
+        this.orderIngestionService = orderIngestionService;
+    }
+
+    @PostMapping("/api/orders/ingestions")
+    public ResponseEntity<OrderIngestionResponse> accept(@RequestBody final OrderRequest request) {
+        return orderIngestionService.accept(request)
+                .map(response -> ResponseEntity.accepted()
+                        .location(URI.create("/api/orders/ingestions/" + response.getOrderId()))
+                        .body(response))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+
+    @GetMapping("/api/orders/ingestions/{orderId}")
+    public ResponseEntity<OrderIngestionResponse> findStatus(@PathVariable final Long orderId) {
+        return orderIngestionService.findStatus(orderId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgument() {
+        return ResponseEntity.badRequest().build();
+    }
+}
@@ -2,37 +2,80 @@ package kitchenpos.order.ui;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
+import kitchenpos.order.application.OrderIdempotencyService;
 import kitchenpos.order.application.OrderService;
 import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.request.OrderStatusChangeRequest;
+import kitchenpos.order.application.response.OrderBatchResultResponse;
+import kitchenpos.order.application.response.OrderPageResponse;
 import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.application.response.OrderStatusChangeResultResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 public class OrderRestController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderEventStream orderEventStream;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+            final OrderService orderService,
+            final OrderIdempotencyService orderIdempotencyService,
+            final OrderEventStream orderEventStream
+    ) {
         this.orderService = orderService;
+        this.orderIdempotencyService = orderIdempotencyService;
+        this.orderEventStream = orderEventStream;
     }
 
     @PostMapping("/api/orders")
-    public ResponseEntity<OrderResponse> create(@RequestBody final OrderRequest request) {
-        final OrderResponse response = orderService.create(request);
+    public ResponseEntity<OrderResponse> create(
+            @RequestHeader(value = "Idempotency-Key", required = false) final String idempotencyKey,
+            @RequestBody final OrderRequest request
+    ) {
+        final OrderResponse response = create(idempotencyKey, request);
         final URI uri = URI.create("/api/orders/" + response.getId());
 
         return ResponseEntity.created(uri).body(response);
     }
 
+    @PostMapping("/api/orders/batch")
+    public ResponseEntity<List<OrderBatchResultResponse>> createAll(@RequestBody final List<OrderRequest> requests) {
+        return ResponseEntity.ok().body(orderService.createAll(requests));
+    }
+
     @GetMapping("/api/orders")
-    public ResponseEntity<List<OrderResponse>> list() {
-        return ResponseEntity.ok().body(orderService.list());
+    public ResponseEntity<OrderPageResponse> list(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size
+    ) {
+        return ResponseEntity.ok().body(orderService.list(cursor, size));
+    }
+
+    @GetMapping(value = "/api/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) final Long lastEventId
+    ) {
+        return ResponseEntity.ok(orderEventStream.subscribe(lastEventId));
+    }
+
+    @PutMapping("/api/orders/order-status")
+    public ResponseEntity<List<OrderStatusChangeResultResponse>> changeOrderStatuses(
+            @RequestBody final OrderStatusChangeRequest request
+    ) {
+        return ResponseEntity.ok(orderService.changeOrderStatuses(request));
     }
 
     @PutMapping("/api/orders/{orderId}/order-status")
@@ -42,4 +85,12 @@ public class OrderRestController {
     ) {
         return ResponseEntity.ok(orderService.changeOrderStatus(orderId, request));
     }
+
+    private OrderResponse create(final String idempotencyKey, final OrderRequest request) {
+        if (Objects.isNull(idempotencyKey)) {
+            return orderService.create(request);
+        }
+
+        return orderIdempotencyService.create(idempotencyKey, request);
+    }
 }
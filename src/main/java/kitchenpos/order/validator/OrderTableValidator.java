@@ -1,6 +1,11 @@
 package kitchenpos.order.validator;
 
+import java.util.List;
+import java.util.Set;
+
 public interface OrderTableValidator {
 
     void validateOrderTableNotEmpty(Long orderTableId);
+
+    Set<Long> filterOrderableTableIds(List<Long> orderTableIds);
 }
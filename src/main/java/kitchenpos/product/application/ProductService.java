@@ -3,10 +3,18 @@ package kitchenpos.product.application;
 import static java.util.stream.Collectors.toList;
 
 import java.util.List;
+import kitchenpos.common.application.response.CatalogChangesResponse;
+import kitchenpos.common.domain.repository.CatalogChangeLockRepository;
+import kitchenpos.product.application.event.ProductChangedEvent;
+import kitchenpos.product.application.request.ProductPriceChangeRequest;
 import kitchenpos.product.application.request.ProductRequest;
+import kitchenpos.product.application.response.ProductPriceChangeResponse;
 import kitchenpos.product.application.response.ProductResponse;
 import kitchenpos.product.domain.Product;
 import kitchenpos.product.domain.repository.ProductRepository;
+import kitchenpos.product.validator.ProductMenuValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,18 +23,43 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final CatalogChangeLockRepository catalogChangeLockRepository;
+    private final ProductMenuValidator productMenuValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductService(final ProductRepository productRepository) {
+    public ProductService(
+            final ProductRepository productRepository,
+            final CatalogChangeLockRepository catalogChangeLockRepository,
+            final ProductMenuValidator productMenuValidator,
+            final ApplicationEventPublisher eventPublisher
+    ) {
         this.productRepository = productRepository;
+        this.catalogChangeLockRepository = catalogChangeLockRepository;
+        this.productMenuValidator = productMenuValidator;
+        this.eventPublisher = eventPublisher;
     }
 
     public ProductResponse create(final ProductRequest request) {
+        catalogChangeLockRepository.lock();
         final Product product = Product.of(request.getName(), request.getPrice());
         final Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent());
 
         return new ProductResponse(savedProduct);
     }
 
+    public ProductPriceChangeResponse changePrice(final Long productId, final ProductPriceChangeRequest request) {
+        catalogChangeLockRepository.lock();
+        final Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+        product.changePrice(request.getPrice());
+        productRepository.increaseChangeSeq(productId);
+        eventPublisher.publishEvent(new ProductChangedEvent());
+
+        final List<Long> menuIds = productMenuValidator.findMenuIdsExceedingProductsSumPrice(productId);
+        return new ProductPriceChangeResponse(new ProductResponse(product), menuIds);
+    }
+
     @Transactional(readOnly = true)
     public List<ProductResponse> list() {
         final List<Product> products = productRepository.findAll();
@@ -35,4 +68,14 @@ public class ProductService {
                 .map(ProductResponse::new)
                 .collect(toList());
     }
+
+    @Transactional(readOnly = true)
+    public CatalogChangesResponse<ProductResponse> findChanges(final long since, final int size) {
+        final int pageSize = CatalogChangesResponse.toPageSize(size);
+        final List<Product> products = productRepository.findAllByChangeSeqGreaterThanOrderByChangeSeq(since,
+                PageRequest.of(0, pageSize + 1));
+
+        return CatalogChangesResponse.of(products, since, pageSize, productRepository::findMaxChangeSeq,
+                Product::getChangeSeq, ProductResponse::new);
+    }
 }
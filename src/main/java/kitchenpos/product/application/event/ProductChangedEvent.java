@@ -0,0 +1,6 @@
+package kitchenpos.product.application.event;
+
+import kitchenpos.common.application.event.CatalogChangedEvent;
+
+public class ProductChangedEvent extends CatalogChangedEvent {
+}
@@ -0,0 +1,18 @@
+package kitchenpos.product.application.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.math.BigDecimal;
+
+public class ProductPriceChangeRequest {
+
+    private BigDecimal price;
+
+    @JsonCreator
+    public ProductPriceChangeRequest(final BigDecimal price) {
+        this.price = price;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+}
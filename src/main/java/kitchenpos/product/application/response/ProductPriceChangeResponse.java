@@ -0,0 +1,25 @@
+package kitchenpos.product.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.List;
+
+public class ProductPriceChangeResponse {
+
+    private ProductResponse product;
+    private List<Long> menuIdsExceedingProductsSumPrice;
+
+    @JsonCreator
+    public ProductPriceChangeResponse(final ProductResponse product,
+                                      final List<Long> menuIdsExceedingProductsSumPrice) {
+        this.product = product;
+        this.menuIdsExceedingProductsSumPrice = menuIdsExceedingProductsSumPrice;
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public List<Long> getMenuIdsExceedingProductsSumPrice() {
+        return menuIdsExceedingProductsSumPrice;
+    }
+}
@@ -11,7 +11,7 @@ public class ProductResponse {
     private BigDecimal price;
 
     public ProductResponse(final Product product) {
-        this(product.getId(), product.getName(), product.getPrice());
+        this(product.getId(), product.getName(), product.getPrice().toBigDecimal());
     }
 
     @JsonCreator
@@ -5,11 +5,16 @@ import static javax.persistence.GenerationType.IDENTITY;
 import java.math.BigDecimal;
 import java.util.Objects;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.domain.MoneyConverter;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
+@BatchSize(size = 100)
 public class Product {
 
     @Id
@@ -19,30 +24,44 @@ public class Product {
     @Column(nullable = false)
     private String name;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false)
-    private BigDecimal price;
+    private Money price;
+
+    @Column(insertable = false, updatable = false)
+    private Long changeSeq;
 
     protected Product() {
     }
 
-    private Product(final Long id, final String name, final BigDecimal price) {
+    private Product(final Long id, final String name, final Money price) {
         this.id = id;
         this.name = name;
         this.price = price;
     }
 
     public static Product of(final Long id, final String name, final BigDecimal price) {
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("올바르지 않은 상품 가격입니다.");
-        }
+        validatePrice(price);
 
-        return new Product(id, name, price);
+        return new Product(id, name, Money.from(price));
     }
 
     public static Product of(final String name, final BigDecimal price) {
         return Product.of(null, name, price);
     }
 
+    public void changePrice(final BigDecimal price) {
+        validatePrice(price);
+
+        this.price = Money.from(price);
+    }
+
+    private static void validatePrice(final BigDecimal price) {
+        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("올바르지 않은 상품 가격입니다.");
+        }
+    }
+
     public Long getId() {
         return id;
     }
@@ -51,7 +70,11 @@ public class Product {
         return name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
 }
@@ -1,7 +1,22 @@
 package kitchenpos.product.domain.repository;
 
+import java.util.List;
 import kitchenpos.product.domain.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    List<Product> findAllByChangeSeqGreaterThanOrderByChangeSeq(long changeSeq, Pageable pageable);
+
+    @Query("select coalesce(max(p.changeSeq), 0) from Product p")
+    long findMaxChangeSeq();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE product SET change_seq = NEXT VALUE FOR catalog_change_seq WHERE id = :id",
+            nativeQuery = true)
+    int increaseChangeSeq(@Param("id") Long id);
 }
@@ -1,23 +1,44 @@
 package kitchenpos.product.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import java.util.List;
+import kitchenpos.common.application.CatalogVersion;
+import kitchenpos.common.application.response.CatalogChangesResponse;
+import kitchenpos.common.ui.ETags;
+import kitchenpos.common.ui.VersionedResponseBody;
+import kitchenpos.common.ui.VersionedResponseCache;
 import kitchenpos.product.application.ProductService;
+import kitchenpos.product.application.request.ProductPriceChangeRequest;
 import kitchenpos.product.application.request.ProductRequest;
+import kitchenpos.product.application.response.ProductPriceChangeResponse;
 import kitchenpos.product.application.response.ProductResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class ProductRestController {
 
     private final ProductService productService;
+    private final CatalogVersion catalogVersion;
+    private final VersionedResponseCache productResponseCache;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(
+            final ProductService productService,
+            final CatalogVersion catalogVersion,
+            final ObjectMapper objectMapper
+    ) {
         this.productService = productService;
+        this.catalogVersion = catalogVersion;
+        this.productResponseCache = new VersionedResponseCache(objectMapper);
     }
 
     @PostMapping("/api/products")
@@ -29,7 +50,32 @@ public class ProductRestController {
     }
 
     @GetMapping("/api/products")
-    public ResponseEntity<List<ProductResponse>> list() {
-        return ResponseEntity.ok().body(productService.list());
+    public ResponseEntity<byte[]> list(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        final long version = catalogVersion.get();
+        if (ETags.matches(ifNoneMatch, version)) {
+            return VersionedResponseBody.notModified(version, acceptEncoding);
+        }
+
+        return productResponseCache.get(version, productService::list)
+                .toResponseEntity(acceptEncoding);
+    }
+
+    @GetMapping("/api/products/changes")
+    public ResponseEntity<CatalogChangesResponse<ProductResponse>> findChanges(
+            @RequestParam(defaultValue = "0") final long since,
+            @RequestParam(defaultValue = "500") final int size
+    ) {
+        return ResponseEntity.ok(productService.findChanges(since, size));
+    }
+
+    @PutMapping("/api/products/{productId}/price")
+    public ResponseEntity<ProductPriceChangeResponse> changePrice(
+            @PathVariable final Long productId,
+            @RequestBody final ProductPriceChangeRequest request
+    ) {
+        return ResponseEntity.ok(productService.changePrice(productId, request));
     }
 }
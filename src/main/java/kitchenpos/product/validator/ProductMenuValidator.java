@@ -0,0 +1,8 @@
+package kitchenpos.product.validator;
+
+import java.util.List;
+
+public interface ProductMenuValidator {
+
+    List<Long> findMenuIdsExceedingProductsSumPrice(Long productId);
+}
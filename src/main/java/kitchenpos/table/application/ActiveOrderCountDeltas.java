@@ -0,0 +1,53 @@
+package kitchenpos.table.application;
+
+import java.util.Map;
+import java.util.TreeMap;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ActiveOrderCountDeltas extends TransactionSynchronizationAdapter {
+
+    private final Object resourceKey;
+    private final OrderTableRepository orderTableRepository;
+    private final Map<Long, Integer> deltas = new TreeMap<>();
+
+    ActiveOrderCountDeltas(final Object resourceKey, final OrderTableRepository orderTableRepository) {
+        this.resourceKey = resourceKey;
+        this.orderTableRepository = orderTableRepository;
+    }
+
+    void add(final Long orderTableId, final int delta) {
+        deltas.merge(orderTableId, delta, Integer::sum);
+    }
+
+    @Override
+    public void suspend() {
+        TransactionSynchronizationManager.unbindResource(resourceKey);
+    }
+
+    @Override
+    public void resume() {
+        TransactionSynchronizationManager.bindResource(resourceKey, this);
+    }
+
+    @Override
+    public void beforeCommit(final boolean readOnly) {
+        deltas.entrySet()
+                .stream()
+                .filter(delta -> delta.getValue() != 0)
+                .forEach(delta -> increase(orderTableRepository, delta.getKey(), delta.getValue()));
+        deltas.clear();
+    }
+
+    static void increase(final OrderTableRepository orderTableRepository, final Long orderTableId, final int delta) {
+        if (orderTableRepository.increaseActiveOrderCount(orderTableId, delta) == 0) {
+            throw new IllegalStateException("진행 중인 주문 수가 0보다 작아질 수 없습니다.");
+        }
+    }
+
+    @Override
+    public void afterCompletion(final int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+    }
+}
@@ -0,0 +1,58 @@
+package kitchenpos.table.application;
+
+import kitchenpos.order.application.event.OrderChangeType;
+import kitchenpos.order.application.event.OrderChangedEvent;
+import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ActiveOrderCounter {
+
+    private final OrderTableRepository orderTableRepository;
+
+    public ActiveOrderCounter(final OrderTableRepository orderTableRepository) {
+        this.orderTableRepository = orderTableRepository;
+    }
+
+    @EventListener
+    public void count(final OrderChangedEvent event) {
+        final OrderResponse order = event.getOrder();
+        final int delta = getDelta(event.getType(), OrderStatus.valueOf(order.getOrderStatus()));
+        if (delta == 0) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ActiveOrderCountDeltas.increase(orderTableRepository, order.getOrderTableId(), delta);
+            return;
+        }
+        getDeltas().add(order.getOrderTableId(), delta);
+    }
+
+    private ActiveOrderCountDeltas getDeltas() {
+        final Object deltas = TransactionSynchronizationManager.getResource(this);
+        if (deltas instanceof ActiveOrderCountDeltas) {
+            return (ActiveOrderCountDeltas) deltas;
+        }
+
+        final ActiveOrderCountDeltas newDeltas = new ActiveOrderCountDeltas(this, orderTableRepository);
+        TransactionSynchronizationManager.bindResource(this, newDeltas);
+        TransactionSynchronizationManager.registerSynchronization(newDeltas);
+        return newDeltas;
+    }
+
+    private static int getDelta(final OrderChangeType type, final OrderStatus orderStatus) {
+        if (type == OrderChangeType.CREATED && orderStatus != OrderStatus.COMPLETION) {
+            return 1;
+        }
+        if (type == OrderChangeType.STATUS_CHANGED && orderStatus == OrderStatus.COMPLETION) {
+            return -1;
+        }
+
+        return 0;
+    }
+}
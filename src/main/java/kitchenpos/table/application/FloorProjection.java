@@ -0,0 +1,182 @@
+package kitchenpos.table.application;
+
+import static java.util.stream.Collectors.toList;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import kitchenpos.order.application.event.OrderChangeType;
+import kitchenpos.order.application.event.OrderChangedEvent;
+import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.order.domain.repository.OrderRepository;
+import kitchenpos.table.application.event.OrderTableChangedEvent;
+import kitchenpos.table.application.response.FloorResponse;
+import kitchenpos.table.application.response.FloorTableResponse;
+import kitchenpos.table.application.response.OrderTableResponse;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class FloorProjection {
+
+    private static final List<OrderStatus> ACTIVE_ORDER_STATUSES = List.of(OrderStatus.COOKING, OrderStatus.MEAL);
+    private static final TableState UNKNOWN_TABLE_STATE = new TableState(null, 0, false);
+
+    private final OrderTableRepository orderTableRepository;
+    private final OrderRepository orderRepository;
+
+    private Map<Long, FloorTable> tables;
+    private volatile long version = System.currentTimeMillis();
+    private volatile FloorResponse floor;
+
+    public FloorProjection(final OrderTableRepository orderTableRepository, final OrderRepository orderRepository) {
+        this.orderTableRepository = orderTableRepository;
+        this.orderRepository = orderRepository;
+    }
+
+    public FloorResponse getFloor() {
+        final FloorResponse current = floor;
+        if (Objects.nonNull(current) && current.getVersion() == version) {
+            return current;
+        }
+
+        return rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void apply(final OrderTableChangedEvent event) {
+        if (Objects.isNull(tables)) {
+            return;
+        }
+
+        if (Objects.nonNull(event.getUngroupedTableGroupId())) {
+            tables.values()
+                    .forEach(table -> table.ungroup(event.getUngroupedTableGroupId()));
+        }
+        for (OrderTableResponse orderTable : event.getOrderTables()) {
+            getOrCreate(orderTable.getId()).state = TableState.from(orderTable);
+        }
+        version++;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void apply(final OrderChangedEvent event) {
+        if (Objects.isNull(tables)) {
+            return;
+        }
+
+        final OrderResponse order = event.getOrder();
+        final OrderStatus orderStatus = OrderStatus.valueOf(order.getOrderStatus());
+        if (event.getType() == OrderChangeType.CREATED && ACTIVE_ORDER_STATUSES.contains(orderStatus)) {
+            getOrCreate(order.getOrderTableId()).activeOrders.put(order.getId(), order.getOrderedTime());
+            version++;
+        }
+        if (event.getType() == OrderChangeType.STATUS_CHANGED && orderStatus == OrderStatus.COMPLETION) {
+            getOrCreate(order.getOrderTableId()).activeOrders.remove(order.getId());
+            version++;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.table.floor.reconcile-delay:PT1M}")
+    public synchronized void reconcile() {
+        final Map<Long, FloorTable> loaded = load();
+        if (isSame(tables, loaded)) {
+            return;
+        }
+
+        tables = loaded;
+        version++;
+    }
+
+    private synchronized FloorResponse rebuild() {
+        if (Objects.isNull(tables)) {
+            tables = load();
+            version++;
+        }
+        if (Objects.nonNull(floor) && floor.getVersion() == version) {
+            return floor;
+        }
+
+        final List<FloorTableResponse> floorTables = tables.entrySet()
+                .stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .collect(toList());
+        floor = new FloorResponse(version, floorTables);
+
+        return floor;
+    }
+
+    private Map<Long, FloorTable> load() {
+        final Map<Long, FloorTable> loaded = new TreeMap<>();
+        final List<Long> activeOrderTableIds = new ArrayList<>();
+        for (OrderTable orderTable : orderTableRepository.findAll()) {
+            loaded.computeIfAbsent(orderTable.getId(), id -> new FloorTable()).state = TableState.from(orderTable);
+            if (orderTable.containsCookingOrMealOrder()) {
+                activeOrderTableIds.add(orderTable.getId());
+            }
+        }
+        if (activeOrderTableIds.isEmpty()) {
+            return loaded;
+        }
+
+        for (Order order : orderRepository.findAllByOrderTableIdInAndOrderStatusIn(activeOrderTableIds,
+                ACTIVE_ORDER_STATUSES)) {
+            loaded.get(order.getOrderTableId()).activeOrders.put(order.getId(), order.getOrderedTime());
+        }
+
+        return loaded;
+    }
+
+    private static boolean isSame(final Map<Long, FloorTable> tables, final Map<Long, FloorTable> loaded) {
+        if (Objects.isNull(tables) || !tables.keySet().equals(loaded.keySet())) {
+            return false;
+        }
+
+        return tables.entrySet()
+                .stream()
+                .allMatch(entry -> entry.getValue().isSameAs(loaded.get(entry.getKey())));
+    }
+
+    private FloorTable getOrCreate(final Long orderTableId) {
+        return tables.computeIfAbsent(orderTableId, id -> new FloorTable());
+    }
+
+    private static class FloorTable {
+
+        private final Map<Long, LocalDateTime> activeOrders = new HashMap<>();
+        private TableState state = UNKNOWN_TABLE_STATE;
+
+        private void ungroup(final Long tableGroupId) {
+            if (state.isGroupedBy(tableGroupId)) {
+                state = state.ungroup();
+            }
+        }
+
+        private boolean isSameAs(final FloorTable other) {
+            return Objects.equals(state.getTableGroupId(), other.state.getTableGroupId())
+                    && state.getNumberOfGuests() == other.state.getNumberOfGuests()
+                    && state.isEmpty() == other.state.isEmpty()
+                    && activeOrders.equals(other.activeOrders);
+        }
+
+        private FloorTableResponse toResponse(final Long id) {
+            final LocalDateTime oldestActiveOrderedTime = activeOrders.values()
+                    .stream()
+                    .min(LocalDateTime::compareTo)
+                    .orElse(null);
+
+            return new FloorTableResponse(id, state.getTableGroupId(), state.getNumberOfGuests(), state.isEmpty(),
+                    activeOrders.size(), oldestActiveOrderedTime);
+        }
+    }
+}
@@ -4,14 +4,16 @@ import static java.util.stream.Collectors.toList;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import kitchenpos.table.application.event.OrderTableChangedEvent;
 import kitchenpos.table.application.request.OrderTableRequest;
 import kitchenpos.table.application.request.TableGroupRequest;
+import kitchenpos.table.application.response.OrderTableResponse;
 import kitchenpos.table.application.response.TableGroupResponse;
-import kitchenpos.table.domain.OrderTable;
 import kitchenpos.table.domain.TableGroup;
 import kitchenpos.table.domain.repository.OrderTableRepository;
 import kitchenpos.table.domain.repository.TableGroupRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,46 +23,64 @@ public class TableGroupService {
 
     private final OrderTableRepository orderTableRepository;
     private final TableGroupRepository tableGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TableGroupService(final OrderTableRepository orderTableRepository,
-                             final TableGroupRepository tableGroupRepository) {
+                             final TableGroupRepository tableGroupRepository,
+                             final ApplicationEventPublisher eventPublisher) {
         this.orderTableRepository = orderTableRepository;
         this.tableGroupRepository = tableGroupRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public TableGroupResponse create(final TableGroupRequest request) {
-        final List<OrderTable> savedOrderTables = getSavedOrderTables(request);
+        final List<Long> orderTableIds = getOrderTableIds(request);
+        final TableGroup savedTableGroup = tableGroupRepository.save(TableGroup.ofSize(LocalDateTime.now(),
+                orderTableIds.size()));
 
-        if (request.getOrderTables().size() != savedOrderTables.size()) {
-            throw new IllegalArgumentException("실제 존재하는 주문 테이블과의 정보가 일치하지 않습니다.");
+        final int claimedCount = orderTableRepository.claimForTableGroup(savedTableGroup.getId(), orderTableIds);
+        if (claimedCount != orderTableIds.size()) {
+            throw new IllegalArgumentException(getClaimFailureMessage(orderTableIds));
         }
 
-        final TableGroup tableGroup = TableGroup.of(LocalDateTime.now(), savedOrderTables);
+        final List<OrderTableResponse> orderTables = orderTableRepository.findAllByIdIn(orderTableIds)
+                .stream()
+                .map(OrderTableResponse::new)
+                .collect(toList());
+        final TableGroupResponse response = new TableGroupResponse(savedTableGroup, orderTables);
+        eventPublisher.publishEvent(OrderTableChangedEvent.grouped(response.getId(), response.getOrderTables()));
 
-        final TableGroup savedTableGroup = tableGroupRepository.save(tableGroup);
-        return TableGroupResponse.from(savedTableGroup);
+        return response;
     }
 
     public void ungroup(final Long tableGroupId) {
-        final TableGroup tableGroup = tableGroupRepository.findById(tableGroupId)
-                .orElseThrow(IllegalArgumentException::new);
+        if (!tableGroupRepository.existsById(tableGroupId)) {
+            throw new IllegalArgumentException();
+        }
+        if (orderTableRepository.existsByTableGroupIdAndActiveOrderCountGreaterThan(tableGroupId, 0)) {
+            throw new IllegalArgumentException("이미 테이블의 음식을 준비중이거나 식사중이면 단체 지정을 해제할 수 없습니다.");
+        }
 
-        tableGroup.ungroup();
+        orderTableRepository.ungroupAll(tableGroupId);
+        eventPublisher.publishEvent(OrderTableChangedEvent.ungrouped(tableGroupId));
     }
 
-    private List<OrderTable> getSavedOrderTables(final TableGroupRequest request) {
-        final List<OrderTable> orderTables = getOrderTables(request);
-        final List<Long> orderTableIds = orderTables.stream()
-                .map(OrderTable::getId)
-                .collect(Collectors.toList());
+    private String getClaimFailureMessage(final List<Long> orderTableIds) {
+        if (orderTableRepository.countByIdIn(orderTableIds) != orderTableIds.size()) {
+            return "실제 존재하는 주문 테이블과의 정보가 일치하지 않습니다.";
+        }
 
-        return orderTableRepository.findAllByIdIn(orderTableIds);
+        return "이미 테이블이 단체 지정되어있거나 비어있지 않으면 단체 지정할 수 없습니다.";
     }
 
-    private static List<OrderTable> getOrderTables(final TableGroupRequest request) {
-        final List<OrderTableRequest> orderTables = request.getOrderTables();
-        return orderTables.stream()
-                .map(it -> new OrderTable(it.getId(), it.getTableGroupId(), it.getNumberOfGuests(), it.isEmpty()))
+    private static List<Long> getOrderTableIds(final TableGroupRequest request) {
+        if (Objects.isNull(request.getOrderTables())) {
+            return List.of();
+        }
+
+        return request.getOrderTables()
+                .stream()
+                .map(OrderTableRequest::getId)
                 .collect(toList());
     }
 }
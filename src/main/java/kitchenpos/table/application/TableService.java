@@ -3,10 +3,12 @@ package kitchenpos.table.application;
 import static java.util.stream.Collectors.toList;
 
 import java.util.List;
+import kitchenpos.table.application.event.OrderTableChangedEvent;
 import kitchenpos.table.application.request.OrderTableRequest;
 import kitchenpos.table.application.response.OrderTableResponse;
 import kitchenpos.table.domain.OrderTable;
 import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,16 +17,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class TableService {
 
     private final OrderTableRepository orderTableRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TableService(final OrderTableRepository orderTableRepository) {
+    public TableService(final OrderTableRepository orderTableRepository,
+                        final ApplicationEventPublisher eventPublisher) {
         this.orderTableRepository = orderTableRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public OrderTableResponse create(final OrderTableRequest request) {
         final OrderTable orderTable = OrderTable.of(request.getNumberOfGuests(), request.isEmpty());
         final OrderTable savedOrderTable = orderTableRepository.save(orderTable);
 
-        return new OrderTableResponse(savedOrderTable);
+        return publishChanged(savedOrderTable);
     }
 
     @Transactional(readOnly = true)
@@ -41,7 +46,7 @@ public class TableService {
                 .orElseThrow(IllegalArgumentException::new);
         foundOrderTable.changeEmptyStatus(request.isEmpty());
 
-        return new OrderTableResponse(foundOrderTable);
+        return publishChanged(foundOrderTable);
     }
 
     public OrderTableResponse changeNumberOfGuests(final Long orderTableId, final OrderTableRequest request) {
@@ -49,6 +54,13 @@ public class TableService {
                 .orElseThrow(IllegalArgumentException::new);
         foundOrderTable.updateNumberOfGuests(request.getNumberOfGuests());
 
-        return new OrderTableResponse(foundOrderTable);
+        return publishChanged(foundOrderTable);
+    }
+
+    private OrderTableResponse publishChanged(final OrderTable orderTable) {
+        final OrderTableResponse response = new OrderTableResponse(orderTable);
+        eventPublisher.publishEvent(OrderTableChangedEvent.changed(response));
+
+        return response;
     }
 }
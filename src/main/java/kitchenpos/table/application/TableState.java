@@ -0,0 +1,46 @@
+package kitchenpos.table.application;
+
+import java.util.Objects;
+import kitchenpos.table.application.response.OrderTableResponse;
+import kitchenpos.table.domain.OrderTable;
+
+public class TableState {
+
+    private final Long tableGroupId;
+    private final int numberOfGuests;
+    private final boolean empty;
+
+    public TableState(final Long tableGroupId, final int numberOfGuests, final boolean empty) {
+        this.tableGroupId = tableGroupId;
+        this.numberOfGuests = numberOfGuests;
+        this.empty = empty;
+    }
+
+    public static TableState from(final OrderTable orderTable) {
+        return new TableState(orderTable.getTableGroupId(), orderTable.getNumberOfGuests(), orderTable.isEmpty());
+    }
+
+    public static TableState from(final OrderTableResponse orderTable) {
+        return new TableState(orderTable.getTableGroupId(), orderTable.getNumberOfGuests(), orderTable.isEmpty());
+    }
+
+    public boolean isGroupedBy(final Long tableGroupId) {
+        return Objects.nonNull(this.tableGroupId) && this.tableGroupId.equals(tableGroupId);
+    }
+
+    public TableState ungroup() {
+        return new TableState(null, numberOfGuests, false);
+    }
+
+    public Long getTableGroupId() {
+        return tableGroupId;
+    }
+
+    public int getNumberOfGuests() {
+        return numberOfGuests;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+}
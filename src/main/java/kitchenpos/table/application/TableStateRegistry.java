@@ -0,0 +1,127 @@
+package kitchenpos.table.application;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import kitchenpos.table.application.event.OrderTableChangedEvent;
+import kitchenpos.table.application.response.OrderTableResponse;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@ConditionalOnProperty(name = "kitchenpos.table.registry.enabled", havingValue = "true")
+public class TableStateRegistry {
+
+    private static final int MIN_CAPACITY = 64;
+    private static final int MAX_CAPACITY = 1 << 20;
+
+    private final OrderTableRepository orderTableRepository;
+
+    private volatile AtomicReferenceArray<TableState> states;
+
+    public TableStateRegistry(final OrderTableRepository orderTableRepository) {
+        this.orderTableRepository = orderTableRepository;
+    }
+
+    public TableState find(final Long orderTableId) {
+        final AtomicReferenceArray<TableState> current = getStates();
+        if (Objects.isNull(orderTableId) || orderTableId < 0 || orderTableId >= current.length()) {
+            return null;
+        }
+
+        return current.get(orderTableId.intValue());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void apply(final OrderTableChangedEvent event) {
+        if (Objects.isNull(states)) {
+            return;
+        }
+
+        if (Objects.nonNull(event.getUngroupedTableGroupId())) {
+            ungroup(event.getUngroupedTableGroupId());
+        }
+        for (OrderTableResponse orderTable : event.getOrderTables()) {
+            put(orderTable.getId(), TableState.from(orderTable));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.table.registry.reconcile-delay:PT1M}")
+    public synchronized void reconcile() {
+        states = load();
+    }
+
+    private AtomicReferenceArray<TableState> getStates() {
+        final AtomicReferenceArray<TableState> current = states;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (Objects.isNull(states)) {
+                states = load();
+            }
+            return states;
+        }
+    }
+
+    private AtomicReferenceArray<TableState> load() {
+        final List<OrderTable> orderTables = orderTableRepository.findAll();
+        final long maxId = orderTables.stream()
+                .mapToLong(OrderTable::getId)
+                .max()
+                .orElse(0L);
+
+        final AtomicReferenceArray<TableState> loaded = new AtomicReferenceArray<>(toCapacity(maxId));
+        for (OrderTable orderTable : orderTables) {
+            if (orderTable.getId() < loaded.length()) {
+                loaded.set(orderTable.getId().intValue(), TableState.from(orderTable));
+            }
+        }
+
+        return loaded;
+    }
+
+    private void put(final long orderTableId, final TableState state) {
+        if (orderTableId >= MAX_CAPACITY) {
+            return;
+        }
+        if (orderTableId >= states.length()) {
+            states = grow(states, toCapacity(orderTableId));
+        }
+
+        states.set((int) orderTableId, state);
+    }
+
+    private void ungroup(final Long tableGroupId) {
+        for (int i = 0; i < states.length(); i++) {
+            final TableState state = states.get(i);
+            if (Objects.nonNull(state) && state.isGroupedBy(tableGroupId)) {
+                states.set(i, state.ungroup());
+            }
+        }
+    }
+
+    private static AtomicReferenceArray<TableState> grow(final AtomicReferenceArray<TableState> states,
+                                                        final int capacity) {
+        final AtomicReferenceArray<TableState> grown = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < states.length(); i++) {
+            grown.set(i, states.get(i));
+        }
+
+        return grown;
+    }
+
+    private static int toCapacity(final long maxId) {
+        if (maxId >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) maxId) << 1);
+    }
+}
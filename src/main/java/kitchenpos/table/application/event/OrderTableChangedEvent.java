@@ -0,0 +1,41 @@
+package kitchenpos.table.application.event;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import kitchenpos.table.application.response.OrderTableResponse;
+
+public class OrderTableChangedEvent {
+
+    private final List<OrderTableResponse> orderTables;
+    private final Long ungroupedTableGroupId;
+
+    private OrderTableChangedEvent(final List<OrderTableResponse> orderTables, final Long ungroupedTableGroupId) {
+        this.orderTables = orderTables;
+        this.ungroupedTableGroupId = ungroupedTableGroupId;
+    }
+
+    public static OrderTableChangedEvent changed(final OrderTableResponse orderTable) {
+        return new OrderTableChangedEvent(List.of(orderTable), null);
+    }
+
+    public static OrderTableChangedEvent grouped(final Long tableGroupId, final List<OrderTableResponse> orderTables) {
+        final List<OrderTableResponse> groupedOrderTables = orderTables.stream()
+                .map(it -> new OrderTableResponse(it.getId(), tableGroupId, it.getNumberOfGuests(), false))
+                .collect(toList());
+
+        return new OrderTableChangedEvent(groupedOrderTables, null);
+    }
+
+    public static OrderTableChangedEvent ungrouped(final Long tableGroupId) {
+        return new OrderTableChangedEvent(List.of(), tableGroupId);
+    }
+
+    public List<OrderTableResponse> getOrderTables() {
+        return orderTables;
+    }
+
+    public Long getUngroupedTableGroupId() {
+        return ungroupedTableGroupId;
+    }
+}
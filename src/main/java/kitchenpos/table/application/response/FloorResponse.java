@@ -0,0 +1,24 @@
+package kitchenpos.table.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.List;
+
+public class FloorResponse {
+
+    private long version;
+    private List<FloorTableResponse> tables;
+
+    @JsonCreator
+    public FloorResponse(final long version, final List<FloorTableResponse> tables) {
+        this.version = version;
+        this.tables = List.copyOf(tables);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<FloorTableResponse> getTables() {
+        return tables;
+    }
+}
@@ -0,0 +1,49 @@
+package kitchenpos.table.application.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.time.LocalDateTime;
+
+public class FloorTableResponse {
+
+    private Long id;
+    private Long tableGroupId;
+    private int numberOfGuests;
+    private boolean empty;
+    private int activeOrderCount;
+    private LocalDateTime oldestActiveOrderedTime;
+
+    @JsonCreator
+    public FloorTableResponse(final Long id, final Long tableGroupId, final int numberOfGuests, final boolean empty,
+                              final int activeOrderCount, final LocalDateTime oldestActiveOrderedTime) {
+        this.id = id;
+        this.tableGroupId = tableGroupId;
+        this.numberOfGuests = numberOfGuests;
+        this.empty = empty;
+        this.activeOrderCount = activeOrderCount;
+        this.oldestActiveOrderedTime = oldestActiveOrderedTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTableGroupId() {
+        return tableGroupId;
+    }
+
+    public int getNumberOfGuests() {
+        return numberOfGuests;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public int getActiveOrderCount() {
+        return activeOrderCount;
+    }
+
+    public LocalDateTime getOldestActiveOrderedTime() {
+        return oldestActiveOrderedTime;
+    }
+}
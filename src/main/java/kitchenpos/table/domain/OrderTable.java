@@ -1,18 +1,12 @@
 package kitchenpos.table.domain;
 
 import static javax.persistence.GenerationType.IDENTITY;
-import static kitchenpos.order.domain.OrderStatus.*;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
-import javax.persistence.JoinColumn;
-import javax.persistence.OneToMany;
-import kitchenpos.order.domain.Order;
 
 @Entity
 public class OrderTable {
@@ -30,9 +24,8 @@ public class OrderTable {
     @Column(nullable = false)
     private boolean empty;
 
-    @OneToMany
-    @JoinColumn(name = "order_table_id")
-    private List<Order> orders = new ArrayList<>();
+    @Column(nullable = false, updatable = false)
+    private int activeOrderCount;
 
     protected OrderTable() {
     }
@@ -42,22 +35,22 @@ public class OrderTable {
     }
 
     public OrderTable(final Long id, final Long tableGroupId, final int numberOfGuests, final boolean empty) {
-        this(id, tableGroupId, numberOfGuests, empty, null);
+        this(id, tableGroupId, numberOfGuests, empty, 0);
     }
 
     public OrderTable(final Long id, final Long tableGroupId, final int numberOfGuests, final boolean empty,
-                      final List<Order> orders) {
+                      final int activeOrderCount) {
         this.id = id;
         this.tableGroupId = tableGroupId;
         this.numberOfGuests = numberOfGuests;
         this.empty = empty;
-        this.orders = orders;
+        this.activeOrderCount = activeOrderCount;
     }
 
     public static OrderTable of(final int numberOfGuests, final boolean empty) {
         validateNegativeNumberOfGuests(numberOfGuests);
 
-        return new OrderTable(null, null, numberOfGuests, empty, new ArrayList<>());
+        return new OrderTable(null, null, numberOfGuests, empty, 0);
     }
 
     public void changeEmptyStatus(final boolean empty) {
@@ -83,18 +76,7 @@ public class OrderTable {
     }
 
     public boolean containsCookingOrMealOrder() {
-        return orders.stream()
-                .anyMatch(it -> it.getOrderStatus().equals(COOKING) || it.getOrderStatus().equals(MEAL));
-    }
-
-    public void ungroup() {
-        this.tableGroupId = null;
-        this.empty = false;
-    }
-
-    public void merge(final Long id) {
-        this.tableGroupId = id;
-        this.empty = false;
+        return activeOrderCount > 0;
     }
 
     private static void validateNegativeNumberOfGuests(final int numberOfGuests) {
@@ -118,4 +100,8 @@ public class OrderTable {
     public boolean isEmpty() {
         return empty;
     }
+
+    public int getActiveOrderCount() {
+        return activeOrderCount;
+    }
 }
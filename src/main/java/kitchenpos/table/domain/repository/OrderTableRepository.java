@@ -3,8 +3,29 @@ package kitchenpos.table.domain.repository;
 import java.util.List;
 import kitchenpos.table.domain.OrderTable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderTableRepository extends JpaRepository<OrderTable, Long> {
 
     List<OrderTable> findAllByIdIn(List<Long> ids);
+
+    long countByIdIn(List<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderTable t set t.tableGroupId = :tableGroupId, t.empty = false"
+            + " where t.id in :ids and t.tableGroupId is null and t.empty = true")
+    int claimForTableGroup(@Param("tableGroupId") Long tableGroupId, @Param("ids") List<Long> ids);
+
+    boolean existsByTableGroupIdAndActiveOrderCountGreaterThan(Long tableGroupId, int activeOrderCount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderTable t set t.tableGroupId = null, t.empty = false where t.tableGroupId = :tableGroupId")
+    int ungroupAll(@Param("tableGroupId") Long tableGroupId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderTable t set t.activeOrderCount = t.activeOrderCount + :delta"
+            + " where t.id = :id and t.activeOrderCount + :delta >= 0")
+    int increaseActiveOrderCount(@Param("id") Long id, @Param("delta") int delta);
 }
@@ -0,0 +1,39 @@
+package kitchenpos.table.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.common.ui.ETags;
+import kitchenpos.common.ui.VersionedResponseBody;
+import kitchenpos.common.ui.VersionedResponseCache;
+import kitchenpos.table.application.FloorProjection;
+import kitchenpos.table.application.response.FloorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class FloorRestController {
+
+    private final FloorProjection floorProjection;
+    private final VersionedResponseCache floorResponseCache;
+
+    public FloorRestController(final FloorProjection floorProjection, final ObjectMapper objectMapper) {
+        this.floorProjection = floorProjection;
+        this.floorResponseCache = new VersionedResponseCache(objectMapper);
+    }
+
+    @GetMapping("/api/floor")
+    public ResponseEntity<byte[]> floor(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        final FloorResponse floor = floorProjection.getFloor();
+        if (ETags.matches(ifNoneMatch, floor.getVersion())) {
+            return VersionedResponseBody.notModified(floor.getVersion(), acceptEncoding);
+        }
+
+        return floorResponseCache.get(floor.getVersion(), () -> floor)
+                .toResponseEntity(acceptEncoding);
+    }
+}
@@ -1,11 +1,17 @@
 package kitchenpos.table.validator;
 
+import static java.util.stream.Collectors.toSet;
+
+import java.util.List;
+import java.util.Set;
 import kitchenpos.order.validator.OrderTableValidator;
 import kitchenpos.table.domain.OrderTable;
 import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "kitchenpos.table.registry.enabled", havingValue = "false", matchIfMissing = true)
 public class TableEmptyValidator implements OrderTableValidator {
 
     private final OrderTableRepository orderTableRepository;
@@ -23,4 +29,13 @@ public class TableEmptyValidator implements OrderTableValidator {
             throw new IllegalArgumentException("주문 테이블이 비어있으면 주문을 생성할 수 없다.");
         }
     }
+
+    @Override
+    public Set<Long> filterOrderableTableIds(final List<Long> orderTableIds) {
+        return orderTableRepository.findAllByIdIn(orderTableIds)
+                .stream()
+                .filter(orderTable -> !orderTable.isEmpty())
+                .map(OrderTable::getId)
+                .collect(toSet());
+    }
 }
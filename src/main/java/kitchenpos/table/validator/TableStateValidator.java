@@ -0,0 +1,78 @@
+package kitchenpos.table.validator;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import kitchenpos.order.validator.OrderTableValidator;
+import kitchenpos.table.application.TableState;
+import kitchenpos.table.application.TableStateRegistry;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "kitchenpos.table.registry.enabled", havingValue = "true")
+public class TableStateValidator implements OrderTableValidator {
+
+    private final TableStateRegistry tableStateRegistry;
+    private final OrderTableRepository orderTableRepository;
+
+    public TableStateValidator(final TableStateRegistry tableStateRegistry,
+                               final OrderTableRepository orderTableRepository) {
+        this.tableStateRegistry = tableStateRegistry;
+        this.orderTableRepository = orderTableRepository;
+    }
+
+    @Override
+    public void validateOrderTableNotEmpty(final Long orderTableId) {
+        if (isEmpty(orderTableId)) {
+            throw new IllegalArgumentException("주문 테이블이 비어있으면 주문을 생성할 수 없다.");
+        }
+    }
+
+    @Override
+    public Set<Long> filterOrderableTableIds(final List<Long> orderTableIds) {
+        final Set<Long> orderableTableIds = new HashSet<>();
+        final List<Long> unknownTableIds = new ArrayList<>();
+        for (Long orderTableId : orderTableIds) {
+            final TableState state = tableStateRegistry.find(orderTableId);
+            if (Objects.isNull(state)) {
+                unknownTableIds.add(orderTableId);
+                continue;
+            }
+            if (!state.isEmpty()) {
+                orderableTableIds.add(orderTableId);
+            }
+        }
+
+        if (!unknownTableIds.isEmpty()) {
+            orderableTableIds.addAll(orderTableRepository.findAllByIdIn(unknownTableIds)
+                    .stream()
+                    .filter(orderTable -> !orderTable.isEmpty())
+                    .map(OrderTable::getId)
+                    .collect(toList()));
+        }
+
+        return orderableTableIds;
+    }
+
+    private boolean isEmpty(final Long orderTableId) {
+        final TableState state = tableStateRegistry.find(orderTableId);
+        if (Objects.nonNull(state)) {
+            return state.isEmpty();
+        }
+
+        if (Objects.isNull(orderTableId)) {
+            throw new IllegalArgumentException();
+        }
+
+        return orderTableRepository.findById(orderTableId)
+                .orElseThrow(IllegalArgumentException::new)
+                .isEmpty();
+    }
+}
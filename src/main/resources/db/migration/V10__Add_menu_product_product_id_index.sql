@@ -0,0 +1 @@
+CREATE INDEX ix_menu_product_product_id ON menu_product (product_id, menu_id);
@@ -0,0 +1,13 @@
+CREATE SEQUENCE catalog_change_seq START WITH 1;
+
+ALTER TABLE product ADD COLUMN change_seq BIGINT DEFAULT (NEXT VALUE FOR catalog_change_seq) NOT NULL;
+ALTER TABLE menu_group ADD COLUMN change_seq BIGINT DEFAULT (NEXT VALUE FOR catalog_change_seq) NOT NULL;
+ALTER TABLE menu ADD COLUMN change_seq BIGINT DEFAULT (NEXT VALUE FOR catalog_change_seq) NOT NULL;
+
+UPDATE product SET change_seq = NEXT VALUE FOR catalog_change_seq;
+UPDATE menu_group SET change_seq = NEXT VALUE FOR catalog_change_seq;
+UPDATE menu SET change_seq = NEXT VALUE FOR catalog_change_seq;
+
+CREATE INDEX ix_product_change_seq ON product (change_seq);
+CREATE INDEX ix_menu_group_change_seq ON menu_group (change_seq);
+CREATE INDEX ix_menu_change_seq ON menu (change_seq);
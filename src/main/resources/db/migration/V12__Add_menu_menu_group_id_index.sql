@@ -0,0 +1 @@
+CREATE INDEX ix_menu_menu_group_id ON menu (menu_group_id, id);
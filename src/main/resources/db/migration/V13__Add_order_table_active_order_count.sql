@@ -0,0 +1,7 @@
+ALTER TABLE order_table ADD COLUMN active_order_count INT DEFAULT 0 NOT NULL;
+
+UPDATE order_table t
+SET active_order_count = (SELECT COUNT(*)
+                          FROM orders o
+                          WHERE o.order_table_id = t.id
+                            AND o.order_status IN ('COOKING', 'MEAL'));
@@ -0,0 +1,6 @@
+CREATE TABLE catalog_change_lock (
+    id BIGINT(20) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO catalog_change_lock (id) VALUES (1);
@@ -0,0 +1 @@
+ALTER TABLE order_idempotency_key ADD COLUMN request_hash VARCHAR(64);
@@ -0,0 +1 @@
+CREATE INDEX ix_orders_ordered_time_id ON orders (ordered_time DESC, id DESC);
@@ -0,0 +1 @@
+CREATE SEQUENCE orders_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM orders) INCREMENT BY 50;
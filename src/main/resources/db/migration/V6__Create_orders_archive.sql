@@ -0,0 +1,33 @@
+CREATE TABLE orders_archive (
+    id BIGINT(20) NOT NULL,
+    order_table_id BIGINT(20) NOT NULL,
+    order_status VARCHAR(255) NOT NULL,
+    ordered_time DATETIME NOT NULL,
+    archived_time DATETIME NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE order_line_item_archive (
+    seq BIGINT(20) NOT NULL,
+    order_id BIGINT(20) NOT NULL,
+    menu_id BIGINT(20) NOT NULL,
+    menu_name VARCHAR(255) NOT NULL,
+    menu_price DECIMAL(19, 2) NOT NULL,
+    quantity BIGINT(20) NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+CREATE TABLE order_archive_checkpoint (
+    id BIGINT(20) NOT NULL,
+    last_ordered_time DATETIME,
+    last_order_id BIGINT(20),
+    PRIMARY KEY (id)
+);
+
+INSERT INTO order_archive_checkpoint (id) VALUES (1);
+
+CREATE INDEX ix_orders_archive_ordered_time_id ON orders_archive (ordered_time DESC, id DESC);
+
+CREATE INDEX ix_order_line_item_archive_order_id ON order_line_item_archive (order_id);
+
+CREATE INDEX ix_orders_order_status_ordered_time_id ON orders (order_status, ordered_time, id);
@@ -0,0 +1,8 @@
+CREATE TABLE order_idempotency_key (
+    idempotency_key VARCHAR(255) NOT NULL,
+    order_id BIGINT(20) NOT NULL,
+    created_time DATETIME NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX ix_order_idempotency_key_created_time ON order_idempotency_key (created_time);
@@ -0,0 +1,2 @@
+ALTER TABLE orders
+ADD version BIGINT(20) NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+CREATE SEQUENCE menu_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM menu) INCREMENT BY 50;
@@ -0,0 +1,37 @@
+package kitchenpos;
+
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+public class QueryCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public QueryCounter(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public long count(final Runnable runnable) {
+        measure(runnable);
+        return statistics.getPrepareStatementCount();
+    }
+
+    public long countEntityLoads(final Runnable runnable) {
+        measure(runnable);
+        return statistics.getEntityLoadCount();
+    }
+
+    private void measure(final Runnable runnable) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        runnable.run();
+    }
+}
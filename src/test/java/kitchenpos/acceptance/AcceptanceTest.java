@@ -35,10 +35,11 @@ abstract class AcceptanceTest {
         jdbcTemplate.update("DELETE FROM menu WHERE id >= 7");
         jdbcTemplate.update("DELETE FROM menu_product WHERE menu_id >= 7");
         jdbcTemplate.update("DELETE FROM order_table WHERE id >= 9");
-        jdbcTemplate.update("UPDATE order_table SET empty = true");
+        jdbcTemplate.update("UPDATE order_table SET empty = true, table_group_id = NULL, active_order_count = 0");
         jdbcTemplate.update("TRUNCATE TABLE orders");
         jdbcTemplate.update("TRUNCATE TABLE order_line_item");
         jdbcTemplate.update("TRUNCATE TABLE table_group");
+        jdbcTemplate.update("TRUNCATE TABLE order_idempotency_key");
         jdbcTemplate.update("SET REFERENTIAL_INTEGRITY TRUE");
     }
 }
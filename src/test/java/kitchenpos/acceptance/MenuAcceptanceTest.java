@@ -9,6 +9,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import kitchenpos.menu.application.request.MenuProductRequest;
 import kitchenpos.menu.application.request.MenuRequest;
+import kitchenpos.menu.application.response.MenuBulkResultResponse;
 import kitchenpos.menu.application.response.MenuResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,6 +46,34 @@ class MenuAcceptanceTest extends AcceptanceTest {
         assertThat(response.getMenuGroupId()).isEqualTo(menuRequest.getMenuGroupId());
     }
 
+    @DisplayName("NDJSON 형식으로 여러 메뉴를 등록하면 줄마다 결과를 응답한다.")
+    @Test
+    void createAllFromNdjson() {
+        // given
+        final String notExistMenuGroupMenu = "{\"name\":\"메뉴 이름\",\"price\":1000,\"menuGroupId\":-1,"
+                + "\"menuProducts\":[{\"menuId\":1,\"productId\":1,\"quantity\":1}]}";
+        final String tooExpensiveMenu = "{\"name\":\"메뉴 이름\",\"price\":100000,\"menuGroupId\":1,"
+                + "\"menuProducts\":[{\"menuId\":1,\"productId\":1,\"quantity\":1}]}";
+
+        // when
+        final List<MenuBulkResultResponse> responses = RestAssured.given().log().all()
+                .contentType("application/x-ndjson")
+                .body(notExistMenuGroupMenu + "\n" + tooExpensiveMenu + "\n")
+                .when().log().all()
+                .post("/api/menus/bulk")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract().jsonPath().getList(".", MenuBulkResultResponse.class);
+
+        // then
+        assertThat(responses)
+                .extracting(MenuBulkResultResponse::getIndex, MenuBulkResultResponse::getMenu)
+                .containsExactly(tuple(0, null), tuple(1, null));
+        assertThat(responses)
+                .extracting(MenuBulkResultResponse::getMessage)
+                .doesNotContainNull();
+    }
+
     @DisplayName("메뉴 전체 목록을 조회할 수 있다.")
     @Test
     void list() {
@@ -4,11 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 
 import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import java.util.List;
 import kitchenpos.menu.application.request.MenuGroupRequest;
 import kitchenpos.menu.application.response.MenuGroupResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 class MenuGroupAcceptanceTest extends AcceptanceTest {
@@ -57,4 +60,76 @@ class MenuGroupAcceptanceTest extends AcceptanceTest {
                         "두마리메뉴", "한마리메뉴", "순살파닭두마리메뉴", "신메뉴"
                 );
     }
+
+    @DisplayName("카탈로그가 바뀌지 않았으면 If-None-Match 요청에 304로 응답한다.")
+    @Test
+    void listNotModified() {
+        // given
+        final String eTag = RestAssured.given().log().all()
+                .when().log().all()
+                .get("/api/menu-groups")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .header(HttpHeaders.ETAG);
+
+        // when
+        final ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().log().all()
+                .get("/api/menu-groups")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(eTag).isNotNull();
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isEqualTo(eTag);
+        assertThat(response.body().asString()).isEmpty();
+    }
+
+    @DisplayName("gzip을 허용하면 미리 압축해둔 목록을 응답하고, 압축 여부에 따라 ETag를 구분한다.")
+    @Test
+    void listWithGzip() {
+        // when
+        final ExtractableResponse<Response> gzipped = RestAssured.given().log().all()
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .when().log().all()
+                .get("/api/menu-groups")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract();
+        final ExtractableResponse<Response> identity = RestAssured.given().log().all()
+                .header(HttpHeaders.ACCEPT_ENCODING, "identity")
+                .when().log().all()
+                .get("/api/menu-groups")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract();
+
+        // then
+        assertThat(gzipped.header(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.header(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(identity.header(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzipped.header(HttpHeaders.ETAG)).isNotEqualTo(identity.header(HttpHeaders.ETAG));
+        assertThat(gzipped.jsonPath().getList(".", MenuGroupResponse.class))
+                .usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(identity.jsonPath().getList(".", MenuGroupResponse.class));
+    }
+
+    @DisplayName("gzip을 명시적으로 거부하면 다른 인코딩을 모두 허용하더라도 압축하지 않은 목록을 응답한다.")
+    @Test
+    void listWithRefusedGzip() {
+        // when
+        final ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;Q=0, *")
+                .when().log().all()
+                .get("/api/menu-groups")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract();
+
+        // then
+        assertThat(response.header(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
 }
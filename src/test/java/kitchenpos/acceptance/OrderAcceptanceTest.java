@@ -10,9 +10,18 @@ import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import kitchenpos.order.application.request.OrderLineItemRequest;
 import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.response.OrderBatchResultResponse;
 import kitchenpos.order.application.response.OrderResponse;
 import kitchenpos.table.domain.OrderTable;
 import org.junit.jupiter.api.DisplayName;
@@ -55,6 +64,59 @@ class OrderAcceptanceTest extends AcceptanceTest {
                 .containsExactly(orderRequest.getOrderTableId(), orderRequest.getOrderStatus());
     }
 
+    @DisplayName("같은 멱등성 키로 동시에 주문을 요청해도 주문은 한 번만 등록된다.")
+    @Test
+    void createWithIdempotencyKey() throws Exception {
+        // given
+        final OrderTable orderTable = saveOrderTable(1, false);
+        final OrderRequest orderRequest = new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                List.of(createOrderLineItem()));
+        final String idempotencyKey = UUID.randomUUID().toString();
+        final int requestCount = 8;
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        final List<Callable<OrderResponse>> requests = IntStream.range(0, requestCount)
+                .mapToObj(i -> (Callable<OrderResponse>) () -> saveOrder(idempotencyKey, orderRequest))
+                .collect(Collectors.toList());
+
+        // when
+        final List<Long> orderIds = new ArrayList<>();
+        for (Future<OrderResponse> future : executorService.invokeAll(requests)) {
+            orderIds.add(future.get().getId());
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(orderIds).containsOnly(orderIds.get(0));
+        assertThat(getOrders(RestAssured.given().get("/api/orders").then().extract())).hasSize(1);
+    }
+
+    @DisplayName("이미 사용한 멱등성 키로 다른 주문을 요청하면 422로 응답한다.")
+    @Test
+    void createWithReusedIdempotencyKey() {
+        // given
+        final OrderTable orderTable = saveOrderTable(1, false);
+        final String idempotencyKey = UUID.randomUUID().toString();
+        saveOrder(idempotencyKey, new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                List.of(createOrderLineItem())));
+        final OrderRequest otherOrderRequest = new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                List.of(new OrderLineItemRequest(SEQUENCE, ORDER_ID, MENU_ID, QUANTITY + 1)));
+
+        // when
+        final ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(otherOrderRequest)
+                .when().log().all()
+                .post("/api/orders")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        assertThat(getOrders(RestAssured.given().get("/api/orders").then().extract())).hasSize(1);
+    }
+
     @DisplayName("주문 목록을 조회할 수 있다.")
     @Test
     void list() {
@@ -119,6 +181,69 @@ class OrderAcceptanceTest extends AcceptanceTest {
         assertThat(response.getOrderStatus()).isEqualTo(COMPLETION.name());
     }
 
+    @DisplayName("여러 주문을 한 번에 등록할 수 있고, 실패한 주문은 개별적으로 응답한다.")
+    @Test
+    void createAll() {
+        // given
+        final OrderTable orderTable = saveOrderTable(1, false);
+        final OrderTable emptyOrderTable = saveOrderTable(1, true);
+
+        final List<OrderRequest> requests = List.of(
+                new OrderRequest(orderTable.getId(), null, LocalDateTime.now(), List.of(createOrderLineItem())),
+                new OrderRequest(emptyOrderTable.getId(), null, LocalDateTime.now(), List.of(createOrderLineItem()))
+        );
+
+        // when
+        final List<OrderBatchResultResponse> responses = RestAssured.given().log().all()
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(requests)
+                .when().log().all()
+                .post("/api/orders/batch")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract().jsonPath().getList(".", OrderBatchResultResponse.class);
+
+        // then
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).getOrder().getOrderStatus()).isEqualTo(COOKING.name());
+        assertThat(responses.get(1).getOrder()).isNull();
+        assertThat(responses.get(1).getMessage()).isNotNull();
+    }
+
+    @DisplayName("같은 주문의 상태를 동시에 변경하면 하나의 변경만 성공한다.")
+    @Test
+    void changeOrderStatusConcurrently() throws Exception {
+        // given
+        final OrderTable orderTable = saveOrderTable(1, false);
+        final OrderResponse savedOrder = saveOrder(new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                List.of(createOrderLineItem())));
+        final OrderRequest changeOrder = new OrderRequest(orderTable.getId(), "MEAL", LocalDateTime.now(),
+                List.of(createOrderLineItem()));
+        final int requestCount = 8;
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        final List<Callable<Integer>> requests = IntStream.range(0, requestCount)
+                .mapToObj(i -> (Callable<Integer>) () -> RestAssured.given()
+                        .contentType(APPLICATION_JSON_VALUE)
+                        .pathParam("orderId", savedOrder.getId())
+                        .body(changeOrder)
+                        .put("/api/orders/{orderId}/order-status")
+                        .statusCode())
+                .collect(Collectors.toList());
+
+        // when
+        final List<Integer> statusCodes = new ArrayList<>();
+        for (Future<Integer> future : executorService.invokeAll(requests)) {
+            statusCodes.add(future.get());
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(statusCodes)
+                .filteredOn(statusCode -> statusCode == HttpStatus.OK.value())
+                .hasSize(1);
+    }
+
     private static OrderTable saveOrderTable(final OrderTable orderTable) {
         return RestAssured.given().log().all()
                 .contentType(APPLICATION_JSON_VALUE)
@@ -141,6 +266,18 @@ class OrderAcceptanceTest extends AcceptanceTest {
                 .extract().as(OrderResponse.class);
     }
 
+    private static OrderResponse saveOrder(final String idempotencyKey, final OrderRequest request) {
+        return RestAssured.given().log().all()
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().log().all()
+                .post("/api/orders")
+                .then().log().all()
+                .statusCode(HttpStatus.CREATED.value())
+                .extract().as(OrderResponse.class);
+    }
+
     private OrderTable saveOrderTable(final int numberOfGuests, final boolean empty) {
         final OrderTable orderTable = OrderTable.of(numberOfGuests, empty);
 
@@ -155,7 +292,7 @@ class OrderAcceptanceTest extends AcceptanceTest {
     }
 
     private static List<OrderResponse> getOrders(final ExtractableResponse<Response> response) {
-        return response.jsonPath().getList(".", OrderResponse.class);
+        return response.jsonPath().getList("orders", OrderResponse.class);
     }
 
     private OrderLineItemRequest createOrderLineItem() {
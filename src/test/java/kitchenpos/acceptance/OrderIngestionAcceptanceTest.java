@@ -0,0 +1,81 @@
+package kitchenpos.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
+
+import io.restassured.RestAssured;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.order.application.request.OrderLineItemRequest;
+import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.response.OrderIngestionResponse;
+import kitchenpos.table.domain.OrderTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "kitchenpos.order.ingestion.enabled=true")
+class OrderIngestionAcceptanceTest extends AcceptanceTest {
+
+    private static final long QUANTITY = 1L;
+    private static final long MENU_ID = 1L;
+    private static final long ORDER_ID = 1L;
+    private static final long SEQUENCE = 1L;
+    private static final int MAX_POLL_COUNT = 50;
+    private static final long POLL_INTERVAL_MILLIS = 100L;
+
+    @DisplayName("주문을 접수하면 바로 주문 id를 응답받고, 이후 저장이 확정된다.")
+    @Test
+    void accept() throws InterruptedException {
+        // given
+        final OrderTable orderTable = saveOrderTable(1, false);
+        final OrderRequest request = new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                List.of(new OrderLineItemRequest(SEQUENCE, ORDER_ID, MENU_ID, QUANTITY)));
+
+        // when
+        final OrderIngestionResponse response = RestAssured.given().log().all()
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().log().all()
+                .post("/api/orders/ingestions")
+                .then().log().all()
+                .statusCode(HttpStatus.ACCEPTED.value())
+                .extract().as(OrderIngestionResponse.class);
+
+        // then
+        assertThat(response.getOrderId()).isNotNull();
+        assertThat(waitForConfirmation(response.getOrderId()).getStatus()).isEqualTo("CONFIRMED");
+    }
+
+    private static OrderIngestionResponse waitForConfirmation(final Long orderId) throws InterruptedException {
+        OrderIngestionResponse response = findStatus(orderId);
+        for (int count = 0; count < MAX_POLL_COUNT && "PENDING".equals(response.getStatus()); count++) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            response = findStatus(orderId);
+        }
+
+        return response;
+    }
+
+    private static OrderIngestionResponse findStatus(final Long orderId) {
+        return RestAssured.given().log().all()
+                .pathParam("orderId", orderId)
+                .when().log().all()
+                .get("/api/orders/ingestions/{orderId}")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract().as(OrderIngestionResponse.class);
+    }
+
+    private static OrderTable saveOrderTable(final int numberOfGuests, final boolean empty) {
+        return RestAssured.given().log().all()
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(OrderTable.of(numberOfGuests, empty))
+                .when().log().all()
+                .post("/api/tables")
+                .then().log().all()
+                .statusCode(HttpStatus.CREATED.value())
+                .extract().as(OrderTable.class);
+    }
+}
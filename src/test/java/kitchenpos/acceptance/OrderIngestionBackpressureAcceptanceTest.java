@@ -0,0 +1,80 @@
+package kitchenpos.acceptance;
+
+import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ValidatableResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.order.application.OrderIngestionService;
+import kitchenpos.order.application.request.OrderLineItemRequest;
+import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.table.domain.OrderTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "kitchenpos.order.ingestion.enabled=true",
+        "kitchenpos.order.ingestion.queue-capacity=1"
+})
+@DirtiesContext
+class OrderIngestionBackpressureAcceptanceTest extends AcceptanceTest {
+
+    private static final long QUANTITY = 1L;
+    private static final long MENU_ID = 1L;
+
+    @Autowired
+    private OrderIngestionService orderIngestionService;
+
+    @DisplayName("접수 대기열이 가득 차면 429 응답과 함께 재시도까지 기다릴 시간을 알려준다.")
+    @Test
+    void acceptWhenQueueIsFull() throws InterruptedException {
+        // given
+        orderIngestionService.stop();
+        final OrderTable orderTable = saveOrderTable(1, false);
+        final OrderRequest request = new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                List.of(new OrderLineItemRequest(null, null, MENU_ID, QUANTITY)));
+        accept(request).statusCode(HttpStatus.ACCEPTED.value());
+
+        // when & then
+        accept(request).statusCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                .header(HttpHeaders.RETRY_AFTER, "1");
+    }
+
+    @DisplayName("메뉴가 지정되지 않은 주문 항목이 있으면 400 응답으로 접수를 거절한다.")
+    @Test
+    void acceptWithoutMenuId() {
+        // given
+        final OrderTable orderTable = saveOrderTable(1, false);
+        final OrderRequest request = new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                List.of(new OrderLineItemRequest(null, null, null, QUANTITY)));
+
+        // when & then
+        accept(request).statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private static ValidatableResponse accept(final OrderRequest request) {
+        return RestAssured.given().log().all()
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().log().all()
+                .post("/api/orders/ingestions")
+                .then().log().all();
+    }
+
+    private static OrderTable saveOrderTable(final int numberOfGuests, final boolean empty) {
+        return RestAssured.given().log().all()
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(OrderTable.of(numberOfGuests, empty))
+                .when().log().all()
+                .post("/api/tables")
+                .then().log().all()
+                .statusCode(HttpStatus.CREATED.value())
+                .extract().as(OrderTable.class);
+    }
+}
@@ -9,7 +9,8 @@ import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import java.math.BigDecimal;
 import java.util.List;
-import kitchenpos.product.domain.Product;
+import kitchenpos.product.application.request.ProductRequest;
+import kitchenpos.product.application.response.ProductResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
@@ -20,17 +21,17 @@ class ProductAcceptanceTest extends AcceptanceTest {
     @Test
     void create() {
         // given
-        final Product product = Product.of("후라이드", BigDecimal.valueOf(16_000));
+        final ProductRequest product = new ProductRequest("후라이드", BigDecimal.valueOf(16_000));
 
         // when
-        final Product response = RestAssured.given().log().all()
+        final ProductResponse response = RestAssured.given().log().all()
                 .contentType(APPLICATION_JSON_VALUE)
                 .body(product)
                 .when().log().all()
                 .post("/api/products")
                 .then().log().all()
                 .statusCode(HttpStatus.CREATED.value())
-                .extract().as(Product.class);
+                .extract().as(ProductResponse.class);
 
         // then
         assertThat(response).isNotNull();
@@ -39,6 +40,18 @@ class ProductAcceptanceTest extends AcceptanceTest {
         assertThat(response.getPrice().longValue()).isEqualTo(product.getPrice().longValue());
     }
 
+    @DisplayName("아직 존재하지 않는 변경 순번 이후의 변경을 조회하면 400 Bad Request로 응답한다.")
+    @Test
+    void findChangesWithUnknownChangeSeq() {
+        // when & then
+        RestAssured.given().log().all()
+                .queryParam("since", Long.MAX_VALUE)
+                .when().log().all()
+                .get("/api/products/changes")
+                .then().log().all()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     @DisplayName("상품 전체 목록을 조회할 수 있다.")
     @Test
     void list() {
@@ -50,13 +63,13 @@ class ProductAcceptanceTest extends AcceptanceTest {
                 .statusCode(HttpStatus.OK.value())
                 .extract();
 
-        final List<Product> products = getProducts(response);
+        final List<ProductResponse> products = getProducts(response);
 
         // then
         assertThat(products)
                 .hasSize(6)
                 .filteredOn(it -> it.getId() != null)
-                .extracting(Product::getName, product -> product.getPrice().longValue())
+                .extracting(ProductResponse::getName, product -> product.getPrice().longValue())
                 .containsExactlyInAnyOrder(
                         tuple("후라이드", 16_000L),
                         tuple("양념치킨", 16_000L),
@@ -67,7 +80,7 @@ class ProductAcceptanceTest extends AcceptanceTest {
                 );
     }
 
-    private static List<Product> getProducts(final ExtractableResponse<Response> response) {
-        return response.jsonPath().getList(".", Product.class);
+    private static List<ProductResponse> getProducts(final ExtractableResponse<Response> response) {
+        return response.jsonPath().getList(".", ProductResponse.class);
     }
 }
@@ -7,7 +7,12 @@ import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import java.time.LocalDateTime;
 import java.util.List;
+import kitchenpos.order.application.request.OrderLineItemRequest;
+import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.table.application.response.FloorResponse;
+import kitchenpos.table.application.response.FloorTableResponse;
 import kitchenpos.table.domain.OrderTable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -109,6 +114,40 @@ class TableAcceptanceTest extends AcceptanceTest {
         assertThat(response.getNumberOfGuests()).isEqualTo(changeOrderTable.getNumberOfGuests());
     }
 
+    @DisplayName("테이블별 손님 수, 단체 지정과 진행 중인 주문을 한 번에 볼 수 있다.")
+    @Test
+    void floor() {
+        // given
+        final OrderTable orderTable = saveOrderTable(2, false);
+        RestAssured.given().log().all()
+                .contentType(APPLICATION_JSON_VALUE)
+                .body(new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                        List.of(new OrderLineItemRequest(null, null, 1L, 1L))))
+                .when().log().all()
+                .post("/api/orders")
+                .then().log().all()
+                .statusCode(HttpStatus.CREATED.value());
+
+        // when
+        final FloorResponse floor = RestAssured.given().log().all()
+                .when().log().all()
+                .get("/api/floor")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract().as(FloorResponse.class);
+
+        // then
+        assertThat(floor.getTables())
+                .filteredOn(table -> table.getId().equals(orderTable.getId()))
+                .extracting(FloorTableResponse::getNumberOfGuests, FloorTableResponse::isEmpty,
+                        FloorTableResponse::getActiveOrderCount)
+                .containsExactly(tuple(2, false, 1));
+        assertThat(floor.getTables())
+                .filteredOn(table -> table.getId().equals(orderTable.getId()))
+                .extracting(FloorTableResponse::getOldestActiveOrderedTime)
+                .doesNotContainNull();
+    }
+
     private static OrderTable saveOrderTable(final int numberOfGuests, final boolean empty) {
         final OrderTable orderTable = OrderTable.of(numberOfGuests, empty);
 
@@ -0,0 +1,227 @@
+package kitchenpos.application;
+
+import static java.util.stream.Collectors.toList;
+import static kitchenpos.order.domain.OrderStatus.COMPLETION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import kitchenpos.order.application.OrderIngestionService;
+import kitchenpos.order.application.OrderService;
+import kitchenpos.order.application.event.OrderChangedEvent;
+import kitchenpos.order.application.request.OrderLineItemRequest;
+import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.request.OrderStatusChangeRequest;
+import kitchenpos.order.application.response.OrderBatchResultResponse;
+import kitchenpos.order.application.response.OrderIngestionResponse;
+import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.table.application.TableService;
+import kitchenpos.table.application.request.OrderTableRequest;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = "kitchenpos.order.ingestion.enabled=true")
+class ActiveOrderCounterTest extends IntegrationTest {
+
+    private static final long MENU_ID = 1L;
+    private static final long QUANTITY = 1L;
+    private static final long CONFIRM_TIMEOUT_MILLIS = 5000L;
+    private static final int ATTEMPT_COUNT = 200;
+    private static final int THREAD_COUNT = 8;
+
+    private Long orderTableId;
+    private Long anotherOrderTableId;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderIngestionService orderIngestionService;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        orderTableId = tableService.create(new OrderTableRequest(2, false)).getId();
+        anotherOrderTableId = tableService.create(new OrderTableRequest(2, false)).getId();
+    }
+
+    @DisplayName("주문을 등록하면 커밋할 때 테이블의 진행 중인 주문 수가 늘어난다.")
+    @Test
+    void countCreatedOrder() {
+        // when
+        orderService.create(createOrderRequest(orderTableId));
+
+        // then
+        assertThat(getActiveOrderCount(orderTableId)).isEqualTo(1);
+    }
+
+    @DisplayName("여러 주문을 한 번에 등록하면 테이블마다 등록된 주문 수만큼 늘어난다.")
+    @Test
+    void countCreatedOrders() {
+        // when
+        final List<OrderBatchResultResponse> responses = orderService.createAll(List.of(
+                createOrderRequest(orderTableId),
+                createOrderRequest(anotherOrderTableId),
+                createOrderRequest(orderTableId),
+                new OrderRequest(orderTableId, null, LocalDateTime.now(), null)
+        ));
+
+        // then
+        assertThat(responses.get(3).getOrder()).isNull();
+        assertThat(getActiveOrderCount(orderTableId)).isEqualTo(2);
+        assertThat(getActiveOrderCount(anotherOrderTableId)).isEqualTo(1);
+    }
+
+    @DisplayName("접수 모드에서 저장이 확정된 주문도 테이블의 진행 중인 주문 수에 반영된다.")
+    @Test
+    void countIngestedOrders() throws InterruptedException {
+        // given
+        final OrderIngestionResponse first = orderIngestionService.accept(createOrderRequest(orderTableId)).get();
+        final OrderIngestionResponse second = orderIngestionService.accept(createOrderRequest(orderTableId)).get();
+
+        // when
+        awaitConfirmed(first.getOrderId());
+        awaitConfirmed(second.getOrderId());
+
+        // then
+        assertThat(getActiveOrderCount(orderTableId)).isEqualTo(2);
+    }
+
+    @DisplayName("주문이 계산 완료되면 테이블의 진행 중인 주문 수가 줄어든다.")
+    @Test
+    void countCompletedOrder() {
+        // given
+        final OrderResponse order = orderService.create(createOrderRequest(orderTableId));
+        orderService.create(createOrderRequest(orderTableId));
+
+        // when
+        orderService.changeOrderStatus(order.getId(), new OrderRequest(null, "MEAL", null, null));
+        orderService.changeOrderStatus(order.getId(), new OrderRequest(null, COMPLETION.name(), null, null));
+
+        // then
+        assertThat(getActiveOrderCount(orderTableId)).isEqualTo(1);
+    }
+
+    @DisplayName("여러 주문을 한 번에 계산 완료하면 실제로 바뀐 주문만큼만 줄어든다.")
+    @Test
+    void countCompletedOrders() {
+        // given
+        final OrderResponse order = orderService.create(createOrderRequest(orderTableId));
+        final OrderResponse anotherOrder = orderService.create(createOrderRequest(orderTableId));
+        final OrderResponse otherTableOrder = orderService.create(createOrderRequest(anotherOrderTableId));
+        orderService.create(createOrderRequest(anotherOrderTableId));
+        final OrderStatusChangeRequest request = new OrderStatusChangeRequest(
+                List.of(order.getId(), anotherOrder.getId(), otherTableOrder.getId()), COMPLETION.name());
+        orderService.changeOrderStatuses(request);
+
+        // when
+        orderService.changeOrderStatuses(request);
+
+        // then
+        assertThat(getActiveOrderCount(orderTableId)).isZero();
+        assertThat(getActiveOrderCount(anotherOrderTableId)).isEqualTo(1);
+    }
+
+    @DisplayName("진행 중인 주문 수를 0보다 작게 만드는 트랜잭션은 되돌린다.")
+    @Test
+    void countNeverBelowZero() {
+        // given
+        final OrderResponse completedOrder = new OrderResponse(1L, orderTableId, COMPLETION.name(),
+                LocalDateTime.now(), List.of());
+
+        // when & then
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(OrderChangedEvent.statusChanged(completedOrder))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(getActiveOrderCount(orderTableId)).isZero();
+    }
+
+    @DisplayName("손님 수 변경과 주문 등록이 동시에 일어나도 진행 중인 주문 수를 잃지 않는다.")
+    @Test
+    void countWhileChangingNumberOfGuests() throws Exception {
+        // given
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        final List<Callable<Object>> attempts = IntStream.range(0, ATTEMPT_COUNT)
+                .mapToObj(attempt -> toAttempt(attempt, start))
+                .collect(toList());
+
+        // when
+        final List<Future<Object>> results = attempts.stream()
+                .map(executor::submit)
+                .collect(toList());
+        start.countDown();
+        executor.shutdown();
+        final boolean terminated = executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        // then
+        assertThat(terminated).isTrue();
+        for (Future<Object> result : results) {
+            result.get();
+        }
+        assertThat(getActiveOrderCount(orderTableId)).isEqualTo(ATTEMPT_COUNT / 2);
+    }
+
+    private Callable<Object> toAttempt(final int attempt, final CountDownLatch start) {
+        if (attempt % 2 == 0) {
+            return () -> {
+                start.await();
+                return orderService.create(createOrderRequest(orderTableId));
+            };
+        }
+
+        return () -> {
+            start.await();
+            return tableService.changeNumberOfGuests(orderTableId, new OrderTableRequest(attempt, false));
+        };
+    }
+
+    private OrderRequest createOrderRequest(final Long orderTableId) {
+        return new OrderRequest(orderTableId, null, LocalDateTime.now(),
+                List.of(new OrderLineItemRequest(null, null, MENU_ID, QUANTITY)));
+    }
+
+    private int getActiveOrderCount(final Long orderTableId) {
+        return orderTableRepository.findById(orderTableId).get().getActiveOrderCount();
+    }
+
+    private void awaitConfirmed(final Long orderId) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + CONFIRM_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline && isPending(orderIngestionService.findStatus(orderId))) {
+            Thread.sleep(10L);
+        }
+    }
+
+    private boolean isPending(final Optional<OrderIngestionResponse> response) {
+        return response.map(OrderIngestionResponse::getStatus)
+                .filter("PENDING"::equals)
+                .isPresent();
+    }
+}
@@ -0,0 +1,129 @@
+package kitchenpos.application;
+
+import static kitchenpos.order.domain.OrderStatus.COMPLETION;
+import static kitchenpos.order.domain.OrderStatus.COOKING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.RepositoryTest;
+import kitchenpos.common.domain.Money;
+import kitchenpos.order.application.event.OrderChangedEvent;
+import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderLineItem;
+import kitchenpos.order.domain.repository.OrderRepository;
+import kitchenpos.table.application.FloorProjection;
+import kitchenpos.table.application.event.OrderTableChangedEvent;
+import kitchenpos.table.application.response.FloorResponse;
+import kitchenpos.table.application.response.FloorTableResponse;
+import kitchenpos.table.application.response.OrderTableResponse;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RepositoryTest
+class FloorProjectionTest {
+
+    private FloorProjection sut;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new FloorProjection(orderTableRepository, orderRepository);
+    }
+
+    @DisplayName("변경이 없으면 처음 만든 플로어 스냅샷을 그대로 응답한다.")
+    @Test
+    void getFloor() {
+        // given
+        final FloorResponse floor = sut.getFloor();
+
+        // when
+        final FloorResponse cachedFloor = sut.getFloor();
+
+        // then
+        assertThat(cachedFloor).isSameAs(floor);
+        assertThat(floor.getTables())
+                .hasSize(8)
+                .extracting(FloorTableResponse::isEmpty, FloorTableResponse::getActiveOrderCount)
+                .containsOnly(tuple(true, 0));
+    }
+
+    @DisplayName("커밋된 테이블과 주문 변경을 스냅샷에 반영한다.")
+    @Test
+    void apply() {
+        // given
+        final FloorResponse floor = sut.getFloor();
+        final LocalDateTime orderedTime = LocalDateTime.now();
+        sut.apply(OrderTableChangedEvent.changed(new OrderTableResponse(1L, null, 3, false)));
+        sut.apply(OrderChangedEvent.created(new OrderResponse(1L, 1L, COOKING.name(), orderedTime, List.of())));
+        sut.apply(OrderChangedEvent.created(new OrderResponse(2L, 1L, COOKING.name(), orderedTime.plusMinutes(5),
+                List.of())));
+        sut.apply(OrderChangedEvent.statusChanged(new OrderResponse(1L, 1L, COMPLETION.name(), orderedTime,
+                List.of())));
+
+        // when
+        final FloorResponse changedFloor = sut.getFloor();
+
+        // then
+        assertThat(changedFloor.getVersion()).isGreaterThan(floor.getVersion());
+        assertThat(changedFloor.getTables())
+                .filteredOn(table -> table.getId().equals(1L))
+                .extracting(FloorTableResponse::getNumberOfGuests, FloorTableResponse::isEmpty,
+                        FloorTableResponse::getActiveOrderCount, FloorTableResponse::getOldestActiveOrderedTime)
+                .containsExactly(tuple(3, false, 1, orderedTime.plusMinutes(5)));
+    }
+
+    @DisplayName("주기적으로 저장된 테이블과 진행 중인 주문으로 스냅샷을 다시 맞춘다.")
+    @Test
+    void reconcile() {
+        // given
+        final FloorResponse floor = sut.getFloor();
+        sut.apply(OrderTableChangedEvent.changed(new OrderTableResponse(1L, null, 4, false)));
+        orderTableRepository.save(new OrderTable(2L, null, 3, false));
+        orderTableRepository.increaseActiveOrderCount(2L, 1);
+        final LocalDateTime orderedTime = LocalDateTime.of(2026, 10, 18, 12, 0);
+        orderRepository.save(new Order(2L, COOKING, orderedTime, List.of(
+                new OrderLineItem(1L, "후라이드치킨", Money.from(BigDecimal.valueOf(16000)), 1L))));
+
+        // when
+        sut.reconcile();
+
+        // then
+        final FloorResponse reconciledFloor = sut.getFloor();
+        assertThat(reconciledFloor.getVersion()).isGreaterThan(floor.getVersion());
+        assertThat(reconciledFloor.getTables())
+                .filteredOn(table -> table.getId() <= 2L)
+                .extracting(FloorTableResponse::getId, FloorTableResponse::getNumberOfGuests,
+                        FloorTableResponse::isEmpty, FloorTableResponse::getActiveOrderCount,
+                        FloorTableResponse::getOldestActiveOrderedTime)
+                .containsExactly(
+                        tuple(1L, 0, true, 0, null),
+                        tuple(2L, 3, false, 1, orderedTime)
+                );
+    }
+
+    @DisplayName("다시 맞춘 결과가 같으면 스냅샷을 새로 만들지 않는다.")
+    @Test
+    void reconcileWithoutChange() {
+        // given
+        final FloorResponse floor = sut.getFloor();
+
+        // when
+        sut.reconcile();
+
+        // then
+        assertThat(sut.getFloor()).isSameAs(floor);
+    }
+}
@@ -0,0 +1,25 @@
+package kitchenpos.application;
+
+import kitchenpos.Application;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(classes = {Application.class})
+abstract class IntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.update("DELETE FROM order_table WHERE id >= 9");
+        jdbcTemplate.update("UPDATE order_table SET empty = true, table_group_id = NULL, active_order_count = 0");
+        jdbcTemplate.update("TRUNCATE TABLE orders");
+        jdbcTemplate.update("TRUNCATE TABLE order_line_item");
+        jdbcTemplate.update("TRUNCATE TABLE table_group");
+        jdbcTemplate.update("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+}
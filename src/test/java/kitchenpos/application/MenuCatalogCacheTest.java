@@ -0,0 +1,119 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import kitchenpos.RepositoryTest;
+import kitchenpos.common.domain.repository.CatalogChangeLockRepository;
+import kitchenpos.menu.application.MenuCatalog;
+import kitchenpos.menu.application.MenuCatalogCache;
+import kitchenpos.menu.application.MenuGroupService;
+import kitchenpos.menu.application.MenuService;
+import kitchenpos.menu.application.event.MenuCatalogChangedEvent;
+import kitchenpos.menu.application.request.MenuGroupRequest;
+import kitchenpos.menu.application.response.MenuGroupResponse;
+import kitchenpos.menu.domain.repository.MenuGroupRepository;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import kitchenpos.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@RepositoryTest
+class MenuCatalogCacheTest {
+
+    private MenuCatalogCache sut;
+    private MenuGroupService menuGroupService;
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CatalogChangeLockRepository catalogChangeLockRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        final MenuService menuService = new MenuService(menuRepository, menuGroupRepository, productRepository,
+                catalogChangeLockRepository, eventPublisher);
+        menuGroupService = new MenuGroupService(menuGroupRepository, menuRepository, catalogChangeLockRepository,
+                eventPublisher);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new MenuCatalogCache(menuService, menuGroupService, transactionManager, meterRegistry);
+    }
+
+    @DisplayName("변경이 없으면 처음 만든 메뉴 카탈로그를 그대로 사용한다.")
+    @Test
+    void getCatalog() {
+        // given
+        final MenuCatalog catalog = sut.getCatalog();
+
+        // when
+        final MenuCatalog cachedCatalog = sut.getCatalog();
+
+        // then
+        assertThat(cachedCatalog).isSameAs(catalog);
+        assertThat(cachedCatalog.getMenus()).hasSize(6);
+        assertThat(cachedCatalog.getMenuGroups()).hasSize(4);
+        assertThat(countOf("menu.catalog.cache", "miss")).isEqualTo(1);
+        assertThat(countOf("menu.catalog.cache", "hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("menu.catalog.rebuild").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("메뉴 카탈로그가 바뀌면 커밋 이후 새로운 버전의 메뉴 카탈로그를 바로 다시 만든다.")
+    @Test
+    void rebuildWhenMenuCatalogChanged() {
+        // given
+        final MenuCatalog catalog = sut.getCatalog();
+        menuGroupService.create(new MenuGroupRequest("세마리메뉴"));
+
+        // when
+        sut.rebuild(MenuCatalogChangedEvent.menuGroupCreated());
+        final MenuCatalog rebuiltCatalog = sut.getCatalog();
+
+        // then
+        assertThat(rebuiltCatalog.getVersion()).isGreaterThan(catalog.getVersion());
+        assertThat(catalog.getMenuGroups()).hasSize(4);
+        final List<MenuGroupResponse> menuGroups = rebuiltCatalog.getMenuGroups();
+        assertThat(menuGroups)
+                .extracting(MenuGroupResponse::getName)
+                .contains("세마리메뉴");
+        assertThat(countOf("menu.catalog.cache", "miss")).isEqualTo(1);
+        assertThat(countOf("menu.catalog.cache", "hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("menu.catalog.rebuild").counter().count()).isEqualTo(2);
+    }
+
+    @DisplayName("메뉴 카탈로그를 아직 만들지 않았으면 변경되어도 미리 만들지 않는다.")
+    @Test
+    void notRebuildBeforeFirstLoad() {
+        // when
+        sut.rebuild(MenuCatalogChangedEvent.menuGroupCreated());
+
+        // then
+        assertThat(meterRegistry.get("menu.catalog.rebuild").counter().count()).isEqualTo(0);
+    }
+
+    private double countOf(final String name, final String result) {
+        return meterRegistry.get(name)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
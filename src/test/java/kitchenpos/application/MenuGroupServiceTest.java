@@ -1,18 +1,28 @@
 package kitchenpos.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.List;
+import javax.persistence.EntityManager;
+import kitchenpos.QueryCounter;
 import kitchenpos.RepositoryTest;
+import kitchenpos.common.application.response.CatalogChangesResponse;
+import kitchenpos.common.domain.repository.CatalogChangeLockRepository;
 import kitchenpos.menu.application.request.MenuGroupRequest;
 import kitchenpos.menu.application.response.MenuGroupResponse;
+import kitchenpos.menu.application.response.MenuGroupSummaryResponse;
+import kitchenpos.menu.application.response.MenuSummaryResponse;
 import kitchenpos.menu.application.MenuGroupService;
 import kitchenpos.menu.domain.MenuGroup;
 import kitchenpos.menu.domain.repository.MenuGroupRepository;
+import kitchenpos.menu.domain.repository.MenuRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 
 @RepositoryTest
 class MenuGroupServiceTest {
@@ -22,9 +32,22 @@ class MenuGroupServiceTest {
     @Autowired
     private MenuGroupRepository menuGroupRepository;
 
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CatalogChangeLockRepository catalogChangeLockRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
-        sut = new MenuGroupService(menuGroupRepository);
+        sut = new MenuGroupService(menuGroupRepository, menuRepository, catalogChangeLockRepository,
+                eventPublisher);
     }
 
     @DisplayName("메뉴 그룹을 생성할 수 있다.")
@@ -61,4 +84,65 @@ class MenuGroupServiceTest {
                         "두마리메뉴", "한마리메뉴", "순살파닭두마리메뉴", "신메뉴"
                 );
     }
+
+    @DisplayName("메뉴 그룹 목록을 그룹에 속한 메뉴 개수와 함께 조회할 수 있다.")
+    @Test
+    void listSummaries() {
+        // when
+        final List<MenuGroupSummaryResponse> menuGroups = sut.listSummaries();
+
+        // then
+        assertThat(menuGroups)
+                .extracting(MenuGroupSummaryResponse::getName, MenuGroupSummaryResponse::getMenuCount)
+                .containsExactly(
+                        tuple("두마리메뉴", 0L),
+                        tuple("한마리메뉴", 6L),
+                        tuple("순살파닭두마리메뉴", 0L),
+                        tuple("신메뉴", 0L)
+                );
+    }
+
+    @DisplayName("메뉴 그룹에 속한 메뉴를 메뉴 상품을 읽지 않고 한 번의 쿼리로 조회할 수 있다.")
+    @Test
+    void listMenus() {
+        // given
+        final QueryCounter queryCounter = new QueryCounter(entityManager);
+
+        // when
+        final List<MenuSummaryResponse> menus = sut.listMenus(2L);
+        final long queryCount = queryCounter.count(() -> sut.listMenus(2L));
+        final long entityLoadCount = queryCounter.countEntityLoads(() -> sut.listMenus(2L));
+
+        // then
+        assertThat(menus)
+                .extracting(MenuSummaryResponse::getId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(queryCount).isEqualTo(1);
+        assertThat(entityLoadCount).isZero();
+    }
+
+    @DisplayName("존재하지 않는 메뉴 그룹의 메뉴는 조회할 수 없다.")
+    @Test
+    void listMenusWithNotExistMenuGroup() {
+        // when & then
+        assertThatThrownBy(() -> sut.listMenus(Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("변경된 메뉴 그룹을 변경 순서대로 나누어 조회할 수 있다.")
+    @Test
+    void findChanges() {
+        // given
+        final CatalogChangesResponse<MenuGroupResponse> firstChanges = sut.findChanges(0L, 2);
+
+        // when
+        final CatalogChangesResponse<MenuGroupResponse> nextChanges = sut.findChanges(firstChanges.getLastChangeSeq(), 10);
+
+        // then
+        assertThat(firstChanges.getChanges()).hasSize(2);
+        assertThat(firstChanges.isHasNext()).isTrue();
+        assertThat(nextChanges.getChanges()).hasSize(2);
+        assertThat(nextChanges.isHasNext()).isFalse();
+        assertThat(nextChanges.getLastChangeSeq()).isGreaterThan(firstChanges.getLastChangeSeq());
+    }
 }
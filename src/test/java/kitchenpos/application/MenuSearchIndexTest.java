@@ -0,0 +1,103 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import kitchenpos.RepositoryTest;
+import kitchenpos.common.domain.repository.CatalogChangeLockRepository;
+import kitchenpos.menu.application.MenuSearchIndex;
+import kitchenpos.menu.application.MenuService;
+import kitchenpos.menu.application.event.MenuCatalogChangedEvent;
+import kitchenpos.menu.application.request.MenuProductRequest;
+import kitchenpos.menu.application.request.MenuRequest;
+import kitchenpos.menu.application.response.MenuResponse;
+import kitchenpos.menu.application.response.MenuSummaryResponse;
+import kitchenpos.menu.domain.repository.MenuGroupRepository;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import kitchenpos.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RepositoryTest
+class MenuSearchIndexTest {
+
+    private MenuSearchIndex sut;
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CatalogChangeLockRepository catalogChangeLockRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository,
+                catalogChangeLockRepository, eventPublisher);
+        sut = new MenuSearchIndex(menuRepository);
+    }
+
+    @DisplayName("메뉴 이름의 일부로 검색하면 앞에서 일치하고 이름이 짧은 메뉴부터 개수 제한만큼 응답한다.")
+    @Test
+    void search() {
+        // when
+        final List<MenuSummaryResponse> menus = sut.search("치킨", 3);
+
+        // then
+        assertThat(menus)
+                .extracting(MenuSummaryResponse::getName)
+                .containsExactly("양념치킨", "반반치킨", "간장치킨");
+    }
+
+    @DisplayName("검색어의 공백과 대소문자는 무시하고, 검색어를 모두 포함하는 메뉴만 응답한다.")
+    @Test
+    void searchWithWhitespace() {
+        // when
+        final List<MenuSummaryResponse> menus = sut.search(" 후라이드 치킨 ", 20);
+
+        // then
+        assertThat(menus)
+                .extracting(MenuSummaryResponse::getName)
+                .containsExactly("후라이드치킨");
+    }
+
+    @DisplayName("검색어가 비어있으면 검색할 수 없다.")
+    @Test
+    void searchWithBlankQuery() {
+        // when & then
+        assertThatThrownBy(() -> sut.search(" ", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("메뉴가 등록되면 전체 색인을 다시 만들지 않고 등록된 메뉴를 추가한다.")
+    @Test
+    void index() {
+        // given
+        assertThat(sut.search("반마리", 20)).isEmpty();
+        final MenuResponse savedMenu = menuService.create(new MenuRequest("후라이드반마리", BigDecimal.valueOf(8000), 2L,
+                List.of(new MenuProductRequest(null, 1L, 1L))));
+
+        // when
+        sut.index(MenuCatalogChangedEvent.menusCreated(List.of(menuRepository.findById(savedMenu.getId())
+                .orElseThrow())));
+
+        // then
+        assertThat(sut.search("반마리", 20))
+                .extracting(MenuSummaryResponse::getId)
+                .containsExactly(savedMenu.getId());
+    }
+}
@@ -6,9 +6,13 @@ import static org.assertj.core.api.Assertions.tuple;
 
 import java.math.BigDecimal;
 import java.util.List;
+import javax.persistence.EntityManager;
+import kitchenpos.QueryCounter;
 import kitchenpos.RepositoryTest;
+import kitchenpos.common.domain.repository.CatalogChangeLockRepository;
 import kitchenpos.menu.application.request.MenuProductRequest;
 import kitchenpos.menu.application.request.MenuRequest;
+import kitchenpos.menu.application.response.MenuBulkResultResponse;
 import kitchenpos.menu.application.response.MenuResponse;
 import kitchenpos.menu.application.MenuService;
 import kitchenpos.menu.domain.Menu;
@@ -19,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 
 @RepositoryTest
 class MenuServiceTest {
@@ -38,9 +43,19 @@ class MenuServiceTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private CatalogChangeLockRepository catalogChangeLockRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
-        sut = new MenuService(menuRepository, menuGroupRepository, productRepository);
+        sut = new MenuService(menuRepository, menuGroupRepository, productRepository,
+                catalogChangeLockRepository, eventPublisher);
     }
 
     @DisplayName("새로운 메뉴를 등록할 수 있다.")
@@ -59,8 +74,9 @@ class MenuServiceTest {
         final Menu foundMenu = menuRepository.findById(response.getId()).get();
         assertThat(foundMenu)
                 .usingRecursiveComparison()
-                .ignoringFields("id", "menuProducts")
+                .ignoringFields("id", "menuProducts", "price", "changeSeq")
                 .isEqualTo(response);
+        assertThat(foundMenu.getPrice().toBigDecimal()).isEqualByComparingTo(response.getPrice());
     }
 
     @DisplayName("메뉴는 반드시 어느 메뉴 그룹에 속해있어야 한다.")
@@ -76,6 +92,86 @@ class MenuServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @DisplayName("존재하지 않는 상품이나 메뉴 상품이 없는 메뉴는 한 건 등록과 여러 건 등록 모두 거부한다.")
+    @Test
+    void createAndCreateAllRejectSameRequest() {
+        // given
+        final long notExistProductId = -1L;
+        final MenuRequest notExistProductRequest = new MenuRequest("후라이드치킨", BigDecimal.valueOf(16000), 2L,
+                List.of(createMenuProductRequest(), new MenuProductRequest(MENU_ID, notExistProductId, QUANTITY)));
+        final MenuRequest emptyMenuProductRequest = new MenuRequest("후라이드치킨", BigDecimal.valueOf(16000), 2L,
+                List.of());
+
+        // when
+        final List<MenuBulkResultResponse> responses = sut.createAll(
+                List.of(notExistProductRequest, emptyMenuProductRequest));
+
+        // then
+        assertThatThrownBy(() -> sut.create(notExistProductRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(responses.get(0).getMessage());
+        assertThatThrownBy(() -> sut.create(emptyMenuProductRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(responses.get(1).getMessage());
+        assertThat(responses)
+                .extracting(MenuBulkResultResponse::getMessage)
+                .containsExactly("존재하지 않는 상품은 메뉴에 포함할 수 없습니다.", "한 가지 이상의 메뉴 상품을 포함해야 합니다.");
+    }
+
+    @DisplayName("여러 메뉴를 한 번에 등록할 수 있고, 실패한 메뉴는 개별적으로 응답한다.")
+    @Test
+    void createAll() {
+        // given
+        final long notExistMenuGroupId = -1L;
+        final long notExistProductId = -1L;
+        final List<MenuRequest> requests = List.of(
+                new MenuRequest("후라이드치킨", BigDecimal.valueOf(16000), 2L, List.of(createMenuProductRequest())),
+                new MenuRequest("후라이드치킨", BigDecimal.valueOf(16000), notExistMenuGroupId,
+                        List.of(createMenuProductRequest())),
+                new MenuRequest("후라이드치킨", BigDecimal.valueOf(16000), 2L,
+                        List.of(new MenuProductRequest(MENU_ID, notExistProductId, QUANTITY))),
+                new MenuRequest("후라이드치킨", BigDecimal.valueOf(16001), 2L, List.of(createMenuProductRequest()))
+        );
+
+        // when
+        final List<MenuBulkResultResponse> responses = sut.createAll(requests);
+
+        // then
+        assertThat(responses)
+                .extracting(MenuBulkResultResponse::getIndex)
+                .containsExactly(0, 1, 2, 3);
+        assertThat(responses.get(0).getMenu().getId()).isNotNull();
+        assertThat(menuRepository.findById(responses.get(0).getMenu().getId())).isPresent();
+        assertThat(responses.subList(1, 4))
+                .allSatisfy(response -> {
+                    assertThat(response.getMenu()).isNull();
+                    assertThat(response.getMessage()).isNotNull();
+                });
+    }
+
+    @DisplayName("여러 메뉴를 한 번에 등록할 때 메뉴 그룹이나 상품이 지정된 메뉴가 없어도 메뉴별 실패 결과로 응답한다.")
+    @Test
+    void createAllWithoutMenuGroupIdOrProductId() {
+        // given
+        final List<MenuRequest> requestsWithoutMenuGroupId = List.of(
+                new MenuRequest("후라이드치킨", BigDecimal.valueOf(16000), null, List.of(createMenuProductRequest())));
+        final List<MenuRequest> requestsWithoutProductId = List.of(
+                new MenuRequest("후라이드치킨", BigDecimal.valueOf(16000), 2L,
+                        List.of(new MenuProductRequest(MENU_ID, null, QUANTITY))));
+
+        // when
+        final List<MenuBulkResultResponse> responsesWithoutMenuGroupId = sut.createAll(requestsWithoutMenuGroupId);
+        final List<MenuBulkResultResponse> responsesWithoutProductId = sut.createAll(requestsWithoutProductId);
+
+        // then
+        assertThat(responsesWithoutMenuGroupId)
+                .extracting(MenuBulkResultResponse::getIndex, MenuBulkResultResponse::getMessage)
+                .containsExactly(tuple(0, "어느 하나의 메뉴 그룹에는 속해야 합니다."));
+        assertThat(responsesWithoutProductId)
+                .extracting(MenuBulkResultResponse::getIndex, MenuBulkResultResponse::getMessage)
+                .containsExactly(tuple(0, "존재하지 않는 상품은 메뉴에 포함할 수 없습니다."));
+    }
+
     @DisplayName("전체 메뉴 리스트를 조회할 수 있다.")
     @Test
     void list() {
@@ -96,6 +192,41 @@ class MenuServiceTest {
                 );
     }
 
+    @DisplayName("메뉴 목록은 메뉴 수와 상관없이 한 번의 쿼리로 메뉴 상품까지 조회한다.")
+    @Test
+    void listWithSingleQuery() {
+        // given
+        final QueryCounter queryCounter = new QueryCounter(entityManager);
+        final long queryCountWithSixMenus = queryCounter.count(() -> sut.list());
+
+        for (int i = 0; i < 3; i++) {
+            sut.create(new MenuRequest("후라이드치킨", BigDecimal.valueOf(16000), 2L, List.of(createMenuProductRequest())));
+        }
+
+        // when
+        final long queryCountWithNineMenus = queryCounter.count(() -> sut.list());
+
+        // then
+        assertThat(queryCountWithSixMenus).isEqualTo(1);
+        assertThat(queryCountWithNineMenus).isEqualTo(1);
+    }
+
+    @DisplayName("주문에 필요한 메뉴 요약은 메뉴 상품과 상품을 조회하지 않는다.")
+    @Test
+    void findAllSummariesWithoutMenuProducts() {
+        // given
+        final QueryCounter queryCounter = new QueryCounter(entityManager);
+        final List<Long> menuIds = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+
+        // when
+        final long queryCount = queryCounter.count(() -> menuRepository.findAllSummariesByIdIn(menuIds));
+        final long entityLoadCount = queryCounter.countEntityLoads(() -> menuRepository.findAllSummariesByIdIn(menuIds));
+
+        // then
+        assertThat(queryCount).isEqualTo(1);
+        assertThat(entityLoadCount).isZero();
+    }
+
     private MenuProductRequest createMenuProductRequest() {
         return new MenuProductRequest(MENU_ID, PRODUCT_ID, QUANTITY);
     }
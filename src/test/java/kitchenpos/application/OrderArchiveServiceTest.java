@@ -0,0 +1,111 @@
+package kitchenpos.application;
+
+import static kitchenpos.order.domain.OrderStatus.COMPLETION;
+import static kitchenpos.order.domain.OrderStatus.COOKING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.RepositoryTest;
+import kitchenpos.common.domain.Money;
+import kitchenpos.order.application.OrderArchiveService;
+import kitchenpos.order.application.response.OrderPageResponse;
+import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderLineItem;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.order.domain.repository.OrderArchiveRepository;
+import kitchenpos.order.domain.repository.OrderRepository;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RepositoryTest
+class OrderArchiveServiceTest {
+
+    private static final long MENU_ID = 1L;
+    private static final int CHUNK_SIZE = 2;
+    private static final int PAGE_SIZE = 20;
+
+    private OrderArchiveService sut;
+    private Long orderTableId;
+
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sut = new OrderArchiveService(orderArchiveRepository);
+        orderTableId = orderTableRepository.save(OrderTable.of(1, false)).getId();
+    }
+
+    @DisplayName("보관 기간이 지난 계산 완료 주문만 청크 단위로 보관 테이블로 옮긴다.")
+    @Test
+    void archiveChunk() {
+        // given
+        final LocalDateTime now = LocalDateTime.now();
+        final Order oldCompletedOrder = saveOrder(COMPLETION, now.minusDays(40));
+        final Order anotherOldCompletedOrder = saveOrder(COMPLETION, now.minusDays(35));
+        final Order lastOldCompletedOrder = saveOrder(COMPLETION, now.minusDays(31));
+        final Order oldCookingOrder = saveOrder(COOKING, now.minusDays(40));
+        final Order recentCompletedOrder = saveOrder(COMPLETION, now.minusDays(1));
+
+        // when
+        final int firstChunkSize = sut.archiveChunk(now.minusDays(30), CHUNK_SIZE);
+        final int secondChunkSize = sut.archiveChunk(now.minusDays(30), CHUNK_SIZE);
+
+        // then
+        assertThat(firstChunkSize).isEqualTo(CHUNK_SIZE);
+        assertThat(secondChunkSize).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM orders", Long.class))
+                .containsExactlyInAnyOrder(oldCookingOrder.getId(), recentCompletedOrder.getId());
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM orders_archive", Long.class))
+                .containsExactlyInAnyOrder(oldCompletedOrder.getId(), anotherOldCompletedOrder.getId(),
+                        lastOldCompletedOrder.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM order_line_item_archive", Long.class))
+                .isEqualTo(3L);
+    }
+
+    @DisplayName("보관된 주문을 최신 주문부터 커서를 이용해 조회할 수 있다.")
+    @Test
+    void listArchived() {
+        // given
+        final LocalDateTime now = LocalDateTime.now();
+        final Order firstOrder = saveOrder(COMPLETION, now.minusDays(40));
+        final Order secondOrder = saveOrder(COMPLETION, now.minusDays(35));
+        sut.archiveChunk(now.minusDays(30), CHUNK_SIZE);
+
+        // when
+        final OrderPageResponse firstPage = sut.listArchived(null, 1);
+        final OrderPageResponse secondPage = sut.listArchived(firstPage.getNextCursor(), PAGE_SIZE);
+
+        // then
+        assertThat(firstPage.getOrders())
+                .extracting(OrderResponse::getId)
+                .containsExactly(secondOrder.getId());
+        assertThat(firstPage.getOrders().get(0).getOrderLineItems()).hasSize(1);
+        assertThat(secondPage.getOrders())
+                .extracting(OrderResponse::getId)
+                .containsExactly(firstOrder.getId());
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    private Order saveOrder(final OrderStatus orderStatus, final LocalDateTime orderedTime) {
+        final OrderLineItem orderLineItem = new OrderLineItem(MENU_ID, "후라이드치킨", Money.from(BigDecimal.valueOf(16000)), 1L);
+        return orderRepository.saveAndFlush(new Order(orderTableId, orderStatus, orderedTime, List.of(orderLineItem)));
+    }
+}
@@ -0,0 +1,87 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.order.application.event.OrderChangedEvent;
+import kitchenpos.order.application.event.OrderEvent;
+import kitchenpos.order.application.event.OrderEventHistory;
+import kitchenpos.order.application.response.OrderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderEventHistoryTest {
+
+    private static final long FIRST_EVENT_ID = 100L;
+
+    @DisplayName("이벤트를 기록하면 단조 증가하는 이벤트 id가 부여된다.")
+    @Test
+    void append() {
+        // given
+        final OrderEventHistory history = new OrderEventHistory(3, FIRST_EVENT_ID);
+
+        // when
+        final OrderEvent firstEvent = history.append(createEvent(1L));
+        final OrderEvent secondEvent = history.append(createEvent(2L));
+
+        // then
+        assertThat(firstEvent.getId()).isEqualTo(FIRST_EVENT_ID);
+        assertThat(secondEvent.getId()).isEqualTo(FIRST_EVENT_ID + 1);
+    }
+
+    @DisplayName("마지막으로 받은 이벤트 id 이후의 이벤트를 다시 조회할 수 있다.")
+    @Test
+    void findAllAfter() {
+        // given
+        final OrderEventHistory history = new OrderEventHistory(3, FIRST_EVENT_ID);
+        final OrderEvent firstEvent = history.append(createEvent(1L));
+        final OrderEvent secondEvent = history.append(createEvent(2L));
+        final OrderEvent thirdEvent = history.append(createEvent(3L));
+
+        // when
+        final List<OrderEvent> events = history.findAllAfter(firstEvent.getId()).get();
+
+        // then
+        assertThat(events)
+                .extracting(OrderEvent::getId)
+                .containsExactly(secondEvent.getId(), thirdEvent.getId());
+    }
+
+    @DisplayName("기록에서 밀려난 이벤트 이후부터는 다시 조회할 수 없다.")
+    @Test
+    void findAllAfterEvictedEvent() {
+        // given
+        final OrderEventHistory history = new OrderEventHistory(2, FIRST_EVENT_ID);
+        final OrderEvent firstEvent = history.append(createEvent(1L));
+        history.append(createEvent(2L));
+        history.append(createEvent(3L));
+        history.append(createEvent(4L));
+
+        // when & then
+        assertThat(history.findAllAfter(firstEvent.getId())).isEmpty();
+    }
+
+    @DisplayName("아직 발행되지 않은 이벤트 id로는 다시 조회할 수 없다.")
+    @Test
+    void findAllAfterUnknownEvent() {
+        // given
+        final OrderEventHistory history = new OrderEventHistory(2, FIRST_EVENT_ID);
+        history.append(createEvent(1L));
+
+        // when & then
+        assertThat(history.findAllAfter(FIRST_EVENT_ID + 10)).isEmpty();
+    }
+
+    @DisplayName("이벤트 기록의 크기는 0보다 커야 한다.")
+    @Test
+    void createWithInvalidCapacity() {
+        assertThatThrownBy(() -> new OrderEventHistory(0, FIRST_EVENT_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static OrderChangedEvent createEvent(final Long orderId) {
+        return OrderChangedEvent.created(new OrderResponse(orderId, 1L, "COOKING", LocalDateTime.now(), List.of()));
+    }
+}
@@ -0,0 +1,82 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.order.application.IdempotencyKeyReusedException;
+import kitchenpos.order.application.OrderIdempotencyStore;
+import kitchenpos.order.application.response.OrderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderIdempotencyStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String REQUEST_HASH = "hash";
+
+    @DisplayName("저장한 멱등성 키로 기존 주문 응답을 조회할 수 있다.")
+    @Test
+    void find() {
+        // given
+        final OrderIdempotencyStore store = new OrderIdempotencyStore(10, TTL);
+        final OrderResponse response = createResponse(1L);
+        store.put("key", REQUEST_HASH, response);
+
+        // when & then
+        assertThat(store.find("key", REQUEST_HASH)).containsSame(response);
+    }
+
+    @DisplayName("저장한 멱등성 키로 다른 주문 요청의 응답을 조회할 수 없다.")
+    @Test
+    void findWithDifferentRequest() {
+        // given
+        final OrderIdempotencyStore store = new OrderIdempotencyStore(10, TTL);
+        store.put("key", REQUEST_HASH, createResponse(1L));
+
+        // when & then
+        assertThatThrownBy(() -> store.find("key", "otherHash"))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @DisplayName("저장소가 가득 차면 가장 오래된 키부터 제거된다.")
+    @Test
+    void evictEldest() {
+        // given
+        final OrderIdempotencyStore store = new OrderIdempotencyStore(2, TTL);
+
+        // when
+        store.put("first", REQUEST_HASH, createResponse(1L));
+        store.put("second", REQUEST_HASH, createResponse(2L));
+        store.put("third", REQUEST_HASH, createResponse(3L));
+
+        // then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find("first", REQUEST_HASH)).isEmpty();
+        assertThat(store.find("third", REQUEST_HASH)).isPresent();
+    }
+
+    @DisplayName("만료된 키로는 주문 응답을 조회할 수 없다.")
+    @Test
+    void findExpired() {
+        // given
+        final OrderIdempotencyStore store = new OrderIdempotencyStore(10, Duration.ZERO);
+        store.put("key", REQUEST_HASH, createResponse(1L));
+
+        // when & then
+        assertThat(store.find("key", REQUEST_HASH)).isEmpty();
+    }
+
+    @DisplayName("저장소의 크기는 0보다 커야 한다.")
+    @Test
+    void createWithInvalidCapacity() {
+        assertThatThrownBy(() -> new OrderIdempotencyStore(0, TTL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static OrderResponse createResponse(final Long orderId) {
+        return new OrderResponse(orderId, 1L, "COOKING", LocalDateTime.now(), List.of());
+    }
+}
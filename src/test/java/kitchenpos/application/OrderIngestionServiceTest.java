@@ -0,0 +1,151 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import kitchenpos.RepositoryTest;
+import kitchenpos.common.domain.Money;
+import kitchenpos.menu.application.event.MenuCatalogChangedEvent;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import kitchenpos.order.application.OrderArchiveService;
+import kitchenpos.order.application.OrderIngestionService;
+import kitchenpos.order.application.request.OrderLineItemRequest;
+import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.response.OrderIngestionResponse;
+import kitchenpos.order.domain.Order;
+import kitchenpos.order.domain.OrderLineItem;
+import kitchenpos.order.domain.OrderStatus;
+import kitchenpos.order.domain.repository.OrderArchiveRepository;
+import kitchenpos.order.domain.repository.OrderJdbcRepository;
+import kitchenpos.order.domain.repository.OrderRepository;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import kitchenpos.table.validator.TableEmptyValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@RepositoryTest
+class OrderIngestionServiceTest {
+
+    private static final long MENU_ID = 1L;
+    private static final long QUANTITY = 1L;
+    private static final int QUEUE_CAPACITY = 1;
+    private static final int LARGE_QUEUE_CAPACITY = 10;
+    private static final int BATCH_SIZE = 500;
+
+    private OrderIngestionService sut;
+    private Long orderTableId;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderJdbcRepository orderJdbcRepository;
+
+    @Autowired
+    private OrderArchiveRepository orderArchiveRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sut = new OrderIngestionService(menuRepository, orderRepository, orderJdbcRepository,
+                orderArchiveRepository, new TableEmptyValidator(orderTableRepository), eventPublisher,
+                transactionManager, QUEUE_CAPACITY, BATCH_SIZE);
+        orderTableId = orderTableRepository.save(OrderTable.of(1, false)).getId();
+    }
+
+    @DisplayName("접수 대기열이 가득 차면 주문을 접수하지 않는다.")
+    @Test
+    void acceptWhenQueueIsFull() {
+        // given
+        final OrderRequest request = new OrderRequest(orderTableId, null, LocalDateTime.now(),
+                List.of(new OrderLineItemRequest(null, null, MENU_ID, QUANTITY)));
+        sut.accept(request);
+
+        // when & then
+        assertThat(sut.accept(request)).isEmpty();
+    }
+
+    @DisplayName("메뉴가 지정되지 않은 주문 항목이 있으면 주문을 접수하지 않는다.")
+    @Test
+    void acceptWithoutMenuId() {
+        // given
+        final OrderRequest request = new OrderRequest(orderTableId, null, LocalDateTime.now(),
+                List.of(new OrderLineItemRequest(null, null, null, QUANTITY)));
+
+        // when & then
+        assertThatThrownBy(() -> sut.accept(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치하지 않습니다.");
+    }
+
+    @DisplayName("메뉴 카탈로그가 바뀌면 접수에 쓰는 메뉴 정보를 다시 읽는다.")
+    @Test
+    void evictMenus() {
+        // given
+        final OrderIngestionService ingestionService = new OrderIngestionService(menuRepository, orderRepository,
+                orderJdbcRepository, orderArchiveRepository, new TableEmptyValidator(orderTableRepository),
+                eventPublisher, transactionManager, LARGE_QUEUE_CAPACITY, BATCH_SIZE);
+        jdbcTemplate.update("INSERT INTO menu (id, name, price, menu_group_id) VALUES (1000, '사라질 메뉴', 16000, 2)");
+        final OrderRequest request = new OrderRequest(orderTableId, null, LocalDateTime.now(),
+                List.of(new OrderLineItemRequest(null, null, 1000L, QUANTITY)));
+        ingestionService.accept(request);
+        jdbcTemplate.update("DELETE FROM menu WHERE id = 1000");
+
+        // when
+        final boolean acceptedBeforeEviction = ingestionService.accept(request).isPresent();
+        ingestionService.evictMenus(MenuCatalogChangedEvent.menuGroupCreated());
+
+        // then
+        assertThat(acceptedBeforeEviction).isTrue();
+        assertThatThrownBy(() -> ingestionService.accept(request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("보관 테이블로 옮겨진 주문도 저장이 확정된 주문으로 조회한다.")
+    @Test
+    void findStatusOfArchivedOrder() {
+        // given
+        final OrderLineItem orderLineItem = new OrderLineItem(MENU_ID, "후라이드치킨",
+                Money.from(BigDecimal.valueOf(16000)), QUANTITY);
+        final Order order = orderRepository.saveAndFlush(new Order(orderTableId, OrderStatus.COMPLETION,
+                LocalDateTime.now().minusDays(40), List.of(orderLineItem)));
+        new OrderArchiveService(orderArchiveRepository).archiveChunk(LocalDateTime.now().minusDays(30), 10);
+
+        // when
+        final OrderIngestionResponse response = sut.findStatus(order.getId()).get();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo("CONFIRMED");
+        assertThat(orderRepository.existsById(order.getId())).isFalse();
+    }
+
+    @DisplayName("접수된 적 없는 주문은 조회할 수 없다.")
+    @Test
+    void findStatusOfUnknownOrder() {
+        // when & then
+        assertThat(sut.findStatus(-1L)).isEmpty();
+    }
+}
@@ -2,19 +2,28 @@ package kitchenpos.application;
 
 import static kitchenpos.order.domain.OrderStatus.COMPLETION;
 import static kitchenpos.order.domain.OrderStatus.COOKING;
+import static kitchenpos.order.domain.OrderStatus.MEAL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import javax.persistence.EntityManager;
+import kitchenpos.QueryCounter;
 import kitchenpos.RepositoryTest;
+import kitchenpos.common.domain.Money;
 import kitchenpos.menu.domain.Menu;
 import kitchenpos.menu.domain.repository.MenuRepository;
 import kitchenpos.order.application.OrderService;
 import kitchenpos.order.application.request.OrderLineItemRequest;
 import kitchenpos.order.application.request.OrderRequest;
+import kitchenpos.order.application.request.OrderStatusChangeRequest;
+import kitchenpos.order.application.response.OrderBatchResultResponse;
+import kitchenpos.order.application.response.OrderPageResponse;
 import kitchenpos.order.application.response.OrderResponse;
+import kitchenpos.order.application.response.OrderStatusChangeResultResponse;
 import kitchenpos.order.domain.Order;
 import kitchenpos.order.domain.OrderLineItem;
 import kitchenpos.order.domain.repository.OrderRepository;
@@ -28,7 +37,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @RepositoryTest
 class OrderServiceTest {
@@ -37,6 +48,7 @@ class OrderServiceTest {
     private static final long MENU_ID = 1L;
     private static final long ORDER_ID = 1L;
     private static final long SEQUENCE = 1L;
+    private static final int PAGE_SIZE = 20;
 
     private OrderService sut;
     private TableService tableService;
@@ -53,11 +65,21 @@ class OrderServiceTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setUp() {
         final TableEmptyValidator tableEmptyValidator = new TableEmptyValidator(orderTableRepository);
-        sut = new OrderService(menuRepository, orderRepository, tableEmptyValidator);
-        tableService = new TableService(orderTableRepository);
+        sut = new OrderService(menuRepository, orderRepository, tableEmptyValidator, eventPublisher,
+                transactionManager);
+        tableService = new TableService(orderTableRepository, eventPublisher);
     }
 
     @DisplayName("주문을 등록할 수 있다. (주문을 하면 조리 상태가 된다.)")
@@ -82,6 +104,29 @@ class OrderServiceTest {
         assertThat(foundOrder.getId()).isNotNull();
     }
 
+    @DisplayName("주문 등록 시 주문 항목 수와 관계없이 메뉴와 상품 엔티티를 불러오지 않는다.")
+    @Test
+    void createWithoutLoadingMenuEntities() {
+        // given
+        final QueryCounter queryCounter = new QueryCounter(entityManager);
+        final OrderTableResponse orderTable = tableService.create(new OrderTableRequest(null, 1, false));
+        final OrderRequest oneItemRequest = new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                List.of(createOrderLineItemRequest()));
+        final OrderRequest threeItemsRequest = new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                List.of(new OrderLineItemRequest(null, null, 1L, QUANTITY),
+                        new OrderLineItemRequest(null, null, 2L, QUANTITY),
+                        new OrderLineItemRequest(null, null, 3L, QUANTITY)));
+
+        // when
+        final long entityLoadsWithOneItem = queryCounter.countEntityLoads(() -> sut.create(oneItemRequest));
+        final long entityLoadsWithThreeItems = queryCounter.countEntityLoads(() -> sut.create(threeItemsRequest));
+
+        // then
+        assertThat(entityLoadsWithThreeItems)
+                .isEqualTo(entityLoadsWithOneItem)
+                .isEqualTo(1L);
+    }
+
     @DisplayName("주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치해야한다.")
     @Test
     void orderLineItemSizeEqualToMenuSize() {
@@ -113,6 +158,59 @@ class OrderServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @DisplayName("여러 주문을 한 번에 등록할 수 있고, 검증에 실패한 주문만 실패 결과로 응답한다.")
+    @Test
+    void createAll() {
+        // given
+        final OrderTableResponse orderTable = tableService.create(new OrderTableRequest(null, 1, false));
+        final OrderTableResponse emptyOrderTable = tableService.create(new OrderTableRequest(null, 1, true));
+
+        final List<OrderRequest> requests = List.of(
+                new OrderRequest(orderTable.getId(), null, LocalDateTime.now(), List.of(createOrderLineItemRequest())),
+                new OrderRequest(emptyOrderTable.getId(), null, LocalDateTime.now(),
+                        List.of(createOrderLineItemRequest())),
+                new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                        invalidQuantityOrderLineItemRequest())
+        );
+
+        // when
+        final List<OrderBatchResultResponse> responses = sut.createAll(requests);
+
+        // then
+        assertThat(responses)
+                .extracting(OrderBatchResultResponse::getIndex)
+                .containsExactly(0, 1, 2);
+        assertThat(responses.get(0).getOrder().getId()).isNotNull();
+        assertThat(responses.get(0).getOrder().getOrderStatus()).isEqualTo(COOKING.name());
+        assertThat(responses.get(1).getOrder()).isNull();
+        assertThat(responses.get(1).getMessage()).isEqualTo("주문 테이블이 비어있으면 주문을 생성할 수 없다.");
+        assertThat(responses.get(2).getOrder()).isNull();
+        assertThat(responses.get(2).getMessage()).isEqualTo("주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치하지 않습니다.");
+    }
+
+    @DisplayName("여러 주문을 한 번에 등록할 때 메뉴가 지정된 주문이 없어도 주문별 실패 결과로 응답한다.")
+    @Test
+    void createAllWithoutMenuId() {
+        // given
+        final OrderTableResponse orderTable = tableService.create(new OrderTableRequest(null, 1, false));
+        final List<OrderRequest> requests = List.of(
+                new OrderRequest(orderTable.getId(), null, LocalDateTime.now(),
+                        List.of(new OrderLineItemRequest(null, null, null, QUANTITY))),
+                new OrderRequest(orderTable.getId(), null, LocalDateTime.now(), null)
+        );
+
+        // when
+        final List<OrderBatchResultResponse> responses = sut.createAll(requests);
+
+        // then
+        assertThat(responses)
+                .extracting(OrderBatchResultResponse::getIndex, OrderBatchResultResponse::getMessage)
+                .containsExactly(
+                        tuple(0, "주문한 메뉴 항목 개수와 실제 메뉴의 수가 일치하지 않습니다."),
+                        tuple(1, "한 가지 이상의 주문 항목을 포함해야합니다.")
+                );
+    }
+
     @DisplayName("주문의 상태는 변경될 수 있다.")
     @Test
     void canChangeOrderStatus() {
@@ -135,6 +233,34 @@ class OrderServiceTest {
         assertThat(changedOrderResponse.getOrderStatus()).isEqualTo(COMPLETION.name());
     }
 
+    @DisplayName("여러 주문의 상태를 한 번에 변경하고 주문별 결과를 응답한다.")
+    @Test
+    void changeOrderStatuses() {
+        // given
+        final long notExistOrderId = -1L;
+        final OrderResponse cookingOrder = sut.create(
+                createdOrderRequest(OrderTable.of(1, false), createOrderLineItemRequest()));
+        final OrderResponse completedOrder = sut.create(
+                createdOrderRequest(OrderTable.of(1, false), createOrderLineItemRequest()));
+        sut.changeOrderStatus(completedOrder.getId(), new OrderRequest(null, "COMPLETION", null, null));
+
+        final OrderStatusChangeRequest request = new OrderStatusChangeRequest(
+                List.of(cookingOrder.getId(), completedOrder.getId(), notExistOrderId), "MEAL");
+
+        // when
+        final List<OrderStatusChangeResultResponse> responses = sut.changeOrderStatuses(request);
+
+        // then
+        assertThat(responses)
+                .extracting(OrderStatusChangeResultResponse::getOrderId, OrderStatusChangeResultResponse::getResult)
+                .containsExactly(
+                        tuple(cookingOrder.getId(), "CHANGED"),
+                        tuple(completedOrder.getId(), "NOT_CHANGEABLE"),
+                        tuple(notExistOrderId, "NOT_FOUND")
+                );
+        assertThat(orderRepository.findById(cookingOrder.getId()).get().getOrderStatus()).isEqualTo(MEAL);
+    }
+
     @DisplayName("주문의 조회결과가 없는 경우 주문의 상태를 변경할 수 없다.")
     @Test
     void canNotChangeOrderStatusWhenEmptyOrder() {
@@ -170,7 +296,7 @@ class OrderServiceTest {
         final OrderResponse orderResponse2 = sut.create(orderRequest2);
 
         // when
-        final List<OrderResponse> orders = sut.list();
+        final List<OrderResponse> orders = sut.list(null, PAGE_SIZE).getOrders();
 
         // then
         assertThat(orders)
@@ -183,6 +309,58 @@ class OrderServiceTest {
                 );
     }
 
+    @DisplayName("주문 목록은 최신 주문부터 커서를 이용해 페이지 단위로 조회할 수 있다.")
+    @Test
+    void listWithCursor() {
+        // given
+        final OrderResponse firstOrder = sut.create(
+                createdOrderRequest(OrderTable.of(1, false), createOrderLineItemRequest()));
+        final OrderResponse secondOrder = sut.create(
+                createdOrderRequest(OrderTable.of(1, false), createOrderLineItemRequest()));
+        final OrderResponse thirdOrder = sut.create(
+                createdOrderRequest(OrderTable.of(1, false), createOrderLineItemRequest()));
+
+        // when
+        final OrderPageResponse firstPage = sut.list(null, 2);
+        final OrderPageResponse secondPage = sut.list(firstPage.getNextCursor(), 2);
+
+        // then
+        assertThat(firstPage.getOrders())
+                .extracting(OrderResponse::getId)
+                .containsExactly(thirdOrder.getId(), secondOrder.getId());
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(secondPage.getOrders())
+                .extracting(OrderResponse::getId)
+                .containsExactly(firstOrder.getId());
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @DisplayName("올바르지 않은 커서로 주문 목록을 조회할 수 없다.")
+    @Test
+    void listWithInvalidCursor() {
+        assertThatThrownBy(() -> sut.list("invalid-cursor", PAGE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("주문 목록 조회 시 주문 수가 늘어나도 실행되는 쿼리 수는 일정하다.")
+    @Test
+    void listWithConstantQueryCount() {
+        // given
+        final QueryCounter queryCounter = new QueryCounter(entityManager);
+        sut.create(createdOrderRequest(OrderTable.of(1, false), createOrderLineItemRequest()));
+        final long queryCountWithOneOrder = queryCounter.count(() -> sut.list(null, PAGE_SIZE));
+
+        for (int i = 0; i < 5; i++) {
+            sut.create(createdOrderRequest(OrderTable.of(1, false), createOrderLineItemRequest()));
+        }
+
+        // when
+        final long queryCountWithSixOrders = queryCounter.count(() -> sut.list(null, PAGE_SIZE));
+
+        // then
+        assertThat(queryCountWithSixOrders).isEqualTo(queryCountWithOneOrder);
+    }
+
     @DisplayName("메뉴의 정보가 변경되어도 주문 항목은 주문 당시의 메뉴 이름과 가격을 기억해야 한다.")
     @Test
     void afterChangeMenu() {
@@ -201,7 +379,7 @@ class OrderServiceTest {
         // then
         assertThat(updatedRowCount).isEqualTo(1);
         assertThat(orderLineItems.get(0).getMenuName()).isEqualTo("후라이드치킨");
-        assertThat(orderLineItems.get(0).getMenuPrice().longValue()).isEqualTo(16000L);
+        assertThat(orderLineItems.get(0).getMenuPrice()).isEqualTo(Money.from(BigDecimal.valueOf(16000)));
     }
 
     private OrderLineItem toOrderLineItem(final OrderLineItemRequest orderLineItemRequest) {
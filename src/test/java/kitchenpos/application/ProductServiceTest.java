@@ -1,12 +1,21 @@
 package kitchenpos.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.math.BigDecimal;
 import java.util.List;
 import kitchenpos.RepositoryTest;
+import kitchenpos.common.application.response.CatalogChangesResponse;
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.domain.repository.CatalogChangeLockRepository;
+import kitchenpos.menu.application.ProductMenuIndex;
+import kitchenpos.menu.domain.repository.MenuRepository;
+import kitchenpos.menu.validator.MenuPriceValidator;
+import kitchenpos.product.application.request.ProductPriceChangeRequest;
 import kitchenpos.product.application.request.ProductRequest;
+import kitchenpos.product.application.response.ProductPriceChangeResponse;
 import kitchenpos.product.application.response.ProductResponse;
 import kitchenpos.product.application.ProductService;
 import kitchenpos.product.domain.Product;
@@ -15,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 
 @RepositoryTest
 class ProductServiceTest {
@@ -24,9 +34,20 @@ class ProductServiceTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private CatalogChangeLockRepository catalogChangeLockRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
-        sut = new ProductService(productRepository);
+        final ProductMenuIndex productMenuIndex = new ProductMenuIndex(menuRepository);
+        sut = new ProductService(productRepository, catalogChangeLockRepository,
+                new MenuPriceValidator(menuRepository, productMenuIndex), eventPublisher);
     }
 
     @DisplayName("새로운 상품을 등록할 수 있다.")
@@ -44,8 +65,9 @@ class ProductServiceTest {
         final Product foundProduct = productRepository.findById(productResponse.getId()).get();
         assertThat(foundProduct)
                 .usingRecursiveComparison()
-                .ignoringFields("id")
+                .ignoringFields("id", "price", "changeSeq")
                 .isEqualTo(productResponse);
+        assertThat(foundProduct.getPrice().toBigDecimal()).isEqualByComparingTo(productResponse.getPrice());
     }
 
     @DisplayName("상품 목록을 전체 조회할 수 있다.")
@@ -67,4 +89,75 @@ class ProductServiceTest {
                         tuple("순살치킨", 17_000L)
                 );
     }
+
+    @DisplayName("상품 가격을 변경하면 상품 금액 총합보다 비싸진 메뉴를 응답한다.")
+    @Test
+    void changePrice() {
+        // given
+        final long productId = 1L;
+        final ProductPriceChangeRequest request = new ProductPriceChangeRequest(BigDecimal.valueOf(15_000));
+
+        // when
+        final ProductPriceChangeResponse response = sut.changePrice(productId, request);
+
+        // then
+        assertThat(response.getProduct().getPrice()).isEqualByComparingTo(BigDecimal.valueOf(15_000));
+        assertThat(response.getMenuIdsExceedingProductsSumPrice()).containsExactly(1L);
+        assertThat(productRepository.findById(productId).get().getPrice())
+                .isEqualTo(Money.from(BigDecimal.valueOf(15_000)));
+    }
+
+    @DisplayName("상품 가격을 올리면 상품 금액 총합보다 비싼 메뉴가 없다.")
+    @Test
+    void changePriceHigher() {
+        // given
+        final ProductPriceChangeRequest request = new ProductPriceChangeRequest(BigDecimal.valueOf(20_000));
+
+        // when
+        final ProductPriceChangeResponse response = sut.changePrice(1L, request);
+
+        // then
+        assertThat(response.getMenuIdsExceedingProductsSumPrice()).isEmpty();
+    }
+
+    @DisplayName("상품 가격은 0보다 작게 변경할 수 없다.")
+    @Test
+    void changePriceWithMinusPrice() {
+        // given
+        final ProductPriceChangeRequest request = new ProductPriceChangeRequest(BigDecimal.valueOf(-1));
+
+        // when & then
+        assertThatThrownBy(() -> sut.changePrice(1L, request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("주어진 변경 순번 이후에 변경된 상품만 조회할 수 있다.")
+    @Test
+    void findChanges() {
+        // given
+        final long lastChangeSeq = sut.findChanges(0L, CatalogChangesResponse.MAX_SIZE).getLastChangeSeq();
+        sut.changePrice(2L, new ProductPriceChangeRequest(BigDecimal.valueOf(15_000)));
+
+        // when
+        final CatalogChangesResponse<ProductResponse> changes = sut.findChanges(lastChangeSeq, 10);
+
+        // then
+        assertThat(changes.getChanges())
+                .extracting(ProductResponse::getId)
+                .containsExactly(2L);
+        assertThat(changes.getLastChangeSeq()).isGreaterThan(lastChangeSeq);
+        assertThat(changes.isHasNext()).isFalse();
+    }
+
+    @DisplayName("아직 존재하지 않는 변경 순번 이후의 변경은 조회할 수 없다.")
+    @Test
+    void findChangesWithUnknownChangeSeq() {
+        // given
+        final long lastChangeSeq = sut.findChanges(0L, CatalogChangesResponse.MAX_SIZE).getLastChangeSeq();
+
+        // when & then
+        assertThat(sut.findChanges(lastChangeSeq, 10).getChanges()).isEmpty();
+        assertThatThrownBy(() -> sut.findChanges(lastChangeSeq + 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
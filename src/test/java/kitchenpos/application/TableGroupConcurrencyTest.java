@@ -0,0 +1,109 @@
+package kitchenpos.application;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import kitchenpos.table.application.TableGroupService;
+import kitchenpos.table.application.TableService;
+import kitchenpos.table.application.request.OrderTableRequest;
+import kitchenpos.table.application.request.TableGroupRequest;
+import kitchenpos.table.application.response.OrderTableResponse;
+import kitchenpos.table.application.response.TableGroupResponse;
+import kitchenpos.table.domain.OrderTable;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class TableGroupConcurrencyTest extends IntegrationTest {
+
+    private static final int ORDER_TABLE_COUNT = 20;
+    private static final int ATTEMPT_COUNT = 400;
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private TableService tableService;
+
+    @Autowired
+    private TableGroupService tableGroupService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @DisplayName("여러 호스트가 겹치는 테이블을 동시에 단체 지정해도 한 테이블은 하나의 단체에만 지정된다.")
+    @Test
+    void createConcurrently() throws Exception {
+        // given
+        final List<OrderTableRequest> orderTables = IntStream.range(0, ORDER_TABLE_COUNT)
+                .mapToObj(i -> tableService.create(new OrderTableRequest(0, true)))
+                .map(it -> new OrderTableRequest(it.getId(), null, it.getNumberOfGuests(), it.isEmpty()))
+                .collect(toList());
+        final List<TableGroupResponse> createdTableGroups = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger rejectedCount = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        final List<Callable<Void>> attempts = IntStream.range(0, ATTEMPT_COUNT)
+                .mapToObj(attempt -> toAttempt(attempt, orderTables, start, createdTableGroups, rejectedCount))
+                .collect(toList());
+
+        // when
+        final List<Future<Void>> results = attempts.stream()
+                .map(executor::submit)
+                .collect(toList());
+        start.countDown();
+        executor.shutdown();
+        final boolean terminated = executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        // then
+        assertThat(terminated).isTrue();
+        for (Future<Void> result : results) {
+            result.get();
+        }
+        assertThat(createdTableGroups).isNotEmpty();
+        assertThat(createdTableGroups.size() + rejectedCount.get()).isEqualTo(ATTEMPT_COUNT);
+        assertThat(createdTableGroups.stream()
+                .flatMap(tableGroup -> tableGroup.getOrderTables().stream())
+                .map(OrderTableResponse::getId)
+                .collect(toList()))
+                .doesNotHaveDuplicates();
+        for (TableGroupResponse tableGroup : createdTableGroups) {
+            final List<Long> orderTableIds = tableGroup.getOrderTables()
+                    .stream()
+                    .map(OrderTableResponse::getId)
+                    .collect(toList());
+            assertThat(orderTableRepository.findAllByIdIn(orderTableIds))
+                    .extracting(OrderTable::getTableGroupId)
+                    .containsOnly(tableGroup.getId());
+        }
+    }
+
+    private Callable<Void> toAttempt(final int attempt, final List<OrderTableRequest> orderTables,
+                                     final CountDownLatch start, final List<TableGroupResponse> createdTableGroups,
+                                     final AtomicInteger rejectedCount) {
+        final int first = attempt % ORDER_TABLE_COUNT;
+        final TableGroupRequest request = new TableGroupRequest(LocalDateTime.now(), List.of(
+                orderTables.get(first), orderTables.get((first + 1) % ORDER_TABLE_COUNT)));
+
+        return () -> {
+            start.await();
+            try {
+                createdTableGroups.add(tableGroupService.create(request));
+            } catch (IllegalArgumentException e) {
+                rejectedCount.incrementAndGet();
+            }
+            return null;
+        };
+    }
+}
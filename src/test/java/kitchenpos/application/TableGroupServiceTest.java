@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import javax.persistence.EntityManager;
+import kitchenpos.QueryCounter;
 import kitchenpos.RepositoryTest;
 import kitchenpos.table.application.TableGroupService;
 import kitchenpos.table.application.TableService;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 
 @RepositoryTest
 class TableGroupServiceTest {
@@ -33,10 +36,16 @@ class TableGroupServiceTest {
     @Autowired
     private TableGroupRepository tableGroupRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
-        sut = new TableGroupService(orderTableRepository, tableGroupRepository);
-        tableService = new TableService(orderTableRepository);
+        sut = new TableGroupService(orderTableRepository, tableGroupRepository, eventPublisher);
+        tableService = new TableService(orderTableRepository, eventPublisher);
     }
 
     @DisplayName("새로운 단체 지정(table group)을 생성할 수 있다.")
@@ -73,6 +82,23 @@ class TableGroupServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @DisplayName("이미 다른 단체에 지정된 테이블이 섞여 있으면 단체 지정할 수 없고, 기존 단체 지정은 그대로 유지된다.")
+    @Test
+    void canNotCreateTableGroupWithGroupedOrderTable() {
+        // given
+        final List<OrderTableRequest> orderTables = toOrderTableRequests(tableService.list());
+        final TableGroupResponse tableGroup = sut.create(new TableGroupRequest(LocalDateTime.now(),
+                orderTables.subList(0, 2)));
+        final TableGroupRequest overlappedTableGroup = new TableGroupRequest(LocalDateTime.now(),
+                orderTables.subList(1, 3));
+
+        // when & then
+        assertThatThrownBy(() -> sut.create(overlappedTableGroup))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(orderTableRepository.findById(orderTables.get(1).getId()).get().getTableGroupId())
+                .isEqualTo(tableGroup.getId());
+    }
+
     @DisplayName("단체 지정(table group)을 해제할 수 있다.")
     @Test
     void ungroup() {
@@ -91,6 +117,34 @@ class TableGroupServiceTest {
                 .containsExactly(null, null, null, null, null, null, null, null);
     }
 
+    @DisplayName("조리 중이거나 식사중인 테이블이 있으면 단체 지정을 해제할 수 없다.")
+    @Test
+    void canNotUngroupWhenCookingOrMeal() {
+        // given
+        final List<OrderTableRequest> orderTables = toOrderTableRequests(tableService.list());
+        final TableGroupResponse tableGroup = sut.create(new TableGroupRequest(LocalDateTime.now(), orderTables));
+        orderTableRepository.increaseActiveOrderCount(orderTables.get(0).getId(), 1);
+
+        // when & then
+        assertThatThrownBy(() -> sut.ungroup(tableGroup.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("단체 지정 해제는 테이블 수와 상관없이 일정한 횟수의 쿼리로 처리한다.")
+    @Test
+    void ungroupWithConstantQueries() {
+        // given
+        final QueryCounter queryCounter = new QueryCounter(entityManager);
+        final List<OrderTableRequest> orderTables = toOrderTableRequests(tableService.list());
+        final TableGroupResponse tableGroup = sut.create(new TableGroupRequest(LocalDateTime.now(), orderTables));
+
+        // when
+        final long queryCount = queryCounter.count(() -> sut.ungroup(tableGroup.getId()));
+
+        // then
+        assertThat(queryCount).isEqualTo(3);
+    }
+
     private List<OrderTableRequest> toOrderTableRequests(final List<OrderTableResponse> orderTableResponses) {
         return orderTableResponses.stream()
                 .map(it -> new OrderTableRequest(it.getId(), it.getTableGroupId(), it.getNumberOfGuests(), it.isEmpty()))
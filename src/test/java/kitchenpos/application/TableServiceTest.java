@@ -19,6 +19,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @RepositoryTest
 class TableServiceTest {
@@ -35,11 +37,18 @@ class TableServiceTest {
     @Autowired
     private OrderTableRepository orderTableRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setUp() {
         final TableEmptyValidator tableEmptyValidator = new TableEmptyValidator(orderTableRepository);
-        sut = new TableService(orderTableRepository);
-        orderService = new OrderService(menuRepository, orderRepository, tableEmptyValidator);
+        sut = new TableService(orderTableRepository, eventPublisher);
+        orderService = new OrderService(menuRepository, orderRepository, tableEmptyValidator, eventPublisher,
+                transactionManager);
     }
 
     @DisplayName("새로운 주문 테이블을 생성할 수 있다.")
@@ -89,4 +98,32 @@ class TableServiceTest {
         assertThatThrownBy(() -> sut.changeEmpty(invalidOrderTableId, orderTableRequest))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @DisplayName("조리 중이거나 식사중인 주문이 남아있는 동안에는 테이블을 빈 상태로 변경할 수 없다.")
+    @Test
+    void changeEmptyWithActiveOrder() {
+        // given
+        final OrderTableResponse orderTable = sut.create(new OrderTableRequest(2, false));
+        orderTableRepository.increaseActiveOrderCount(orderTable.getId(), 1);
+
+        // when & then
+        assertThatThrownBy(() -> sut.changeEmpty(orderTable.getId(), new OrderTableRequest(0, true)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("주문이 모두 계산 완료되면 테이블을 빈 상태로 변경할 수 있다.")
+    @Test
+    void changeEmptyAfterOrderCompleted() {
+        // given
+        final OrderTableResponse orderTable = sut.create(new OrderTableRequest(2, false));
+        orderTableRepository.increaseActiveOrderCount(orderTable.getId(), 1);
+        orderTableRepository.increaseActiveOrderCount(orderTable.getId(), -1);
+
+        // when
+        final OrderTableResponse response = sut.changeEmpty(orderTable.getId(), new OrderTableRequest(0, true));
+
+        // then
+        assertThat(response.isEmpty()).isTrue();
+        assertThat(orderTableRepository.findById(orderTable.getId()).get().getActiveOrderCount()).isZero();
+    }
 }
@@ -0,0 +1,105 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import kitchenpos.RepositoryTest;
+import kitchenpos.table.application.TableService;
+import kitchenpos.table.application.TableState;
+import kitchenpos.table.application.TableStateRegistry;
+import kitchenpos.table.application.event.OrderTableChangedEvent;
+import kitchenpos.table.application.request.OrderTableRequest;
+import kitchenpos.table.application.response.OrderTableResponse;
+import kitchenpos.table.domain.repository.OrderTableRepository;
+import kitchenpos.table.validator.TableStateValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RepositoryTest
+class TableStateRegistryTest {
+
+    private TableStateRegistry sut;
+    private TableService tableService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        sut = new TableStateRegistry(orderTableRepository);
+        tableService = new TableService(orderTableRepository, eventPublisher);
+    }
+
+    @DisplayName("처음 조회할 때 저장된 주문 테이블의 상태를 읽어온다.")
+    @Test
+    void find() {
+        // when
+        final TableState state = sut.find(1L);
+
+        // then
+        assertThat(state.isEmpty()).isTrue();
+        assertThat(state.getTableGroupId()).isNull();
+        assertThat(sut.find(Long.MAX_VALUE)).isNull();
+        assertThat(sut.find(null)).isNull();
+    }
+
+    @DisplayName("커밋된 주문 테이블 변경을 반영하고, 단체 지정이 해제되면 그룹에 속한 테이블을 모두 해제한다.")
+    @Test
+    void apply() {
+        // given
+        sut.find(1L);
+        final List<OrderTableResponse> orderTables = List.of(new OrderTableResponse(1L, null, 0, true),
+                new OrderTableResponse(2L, null, 0, true));
+        sut.apply(OrderTableChangedEvent.grouped(10L, orderTables));
+        final TableState groupedState = sut.find(1L);
+
+        // when
+        sut.apply(OrderTableChangedEvent.ungrouped(10L));
+
+        // then
+        assertThat(groupedState.getTableGroupId()).isEqualTo(10L);
+        assertThat(groupedState.isEmpty()).isFalse();
+        assertThat(sut.find(1L).getTableGroupId()).isNull();
+        assertThat(sut.find(2L).getTableGroupId()).isNull();
+        assertThat(sut.find(2L).isEmpty()).isFalse();
+    }
+
+    @DisplayName("주기적으로 저장된 주문 테이블 상태와 다시 맞춘다.")
+    @Test
+    void reconcile() {
+        // given
+        sut.find(1L);
+        sut.apply(OrderTableChangedEvent.changed(new OrderTableResponse(1L, null, 4, false)));
+
+        // when
+        sut.reconcile();
+
+        // then
+        assertThat(sut.find(1L).isEmpty()).isTrue();
+        assertThat(sut.find(1L).getNumberOfGuests()).isZero();
+    }
+
+    @DisplayName("레지스트리에 아직 없는 주문 테이블은 저장소에서 확인한다.")
+    @Test
+    void validateWithUnknownOrderTable() {
+        // given
+        final TableStateValidator validator = new TableStateValidator(sut, orderTableRepository);
+        sut.find(1L);
+        final OrderTableResponse orderTable = tableService.create(new OrderTableRequest(2, false));
+        final OrderTableResponse emptyOrderTable = tableService.create(new OrderTableRequest(0, true));
+
+        // when & then
+        validator.validateOrderTableNotEmpty(orderTable.getId());
+        assertThatThrownBy(() -> validator.validateOrderTableNotEmpty(emptyOrderTable.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(validator.filterOrderableTableIds(List.of(1L, orderTable.getId(), emptyOrderTable.getId())))
+                .containsExactly(orderTable.getId());
+    }
+}
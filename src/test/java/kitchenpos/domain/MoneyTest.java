@@ -0,0 +1,60 @@
+package kitchenpos.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import kitchenpos.common.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @DisplayName("금액은 소수점 둘째 자리까지 더하고 곱할 수 있다.")
+    @Test
+    void plusAndTimes() {
+        // given
+        final Money price = Money.from(new BigDecimal("16000.50"));
+
+        // when
+        final Money amount = price.times(3).plus(Money.from(BigDecimal.ONE));
+
+        // then
+        assertThat(amount.toBigDecimal()).isEqualByComparingTo(new BigDecimal("48002.50"));
+    }
+
+    @DisplayName("long 범위를 넘어서는 계산은 BigDecimal로 계속 계산한다.")
+    @Test
+    void timesWithOverflow() {
+        // given
+        final Money price = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        // when
+        final Money amount = price.times(2).plus(Money.ofMinorUnits(1L));
+
+        // then
+        final BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2)
+                .multiply(BigDecimal.valueOf(2))
+                .add(new BigDecimal("0.01"));
+        assertThat(amount.toBigDecimal()).isEqualByComparingTo(expected);
+        assertThat(amount.isGreaterThan(price)).isTrue();
+    }
+
+    @DisplayName("같은 금액은 표현 방식과 상관없이 같다.")
+    @Test
+    void equals() {
+        // given
+        final Money money = Money.from(new BigDecimal("16000"));
+
+        // when & then
+        assertThat(money).isEqualTo(Money.from(new BigDecimal("16000.00")));
+        assertThat(money).isEqualTo(Money.ofMinorUnits(1_600_000L));
+    }
+
+    @DisplayName("금액이 없으면 생성할 수 없다.")
+    @Test
+    void createWithNull() {
+        assertThatThrownBy(() -> Money.from(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
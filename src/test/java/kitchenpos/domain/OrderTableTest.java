@@ -1,12 +1,8 @@
 package kitchenpos.domain;
 
-import static kitchenpos.order.domain.OrderStatus.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-import java.time.LocalDateTime;
-import java.util.List;
-import kitchenpos.order.domain.Order;
 import kitchenpos.table.domain.OrderTable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +10,6 @@ import org.junit.jupiter.api.Test;
 class OrderTableTest {
 
     private static final int INVALID_NUMBER_OF_GUESTS = -1;
-    private static final long ORDER_TABLE_ID = 1L;
     private static final long TABLE_GROUP_ID = 1L;
 
     @DisplayName("손님이 음수인 경우로 테이블을 생성할 수 없다.")
@@ -101,8 +96,7 @@ class OrderTableTest {
     @Test
     void canNotChangeTableWhenCookingOrMeal() {
         // given
-        final Order order = new Order(ORDER_TABLE_ID, COOKING, LocalDateTime.now(), List.of());
-        final OrderTable orderTable = new OrderTable(1L, TABLE_GROUP_ID, 1, false, List.of(order));
+        final OrderTable orderTable = new OrderTable(1L, TABLE_GROUP_ID, 1, false, 1);
 
         // when & then
         assertThatThrownBy(() -> orderTable.changeEmptyStatus(true))
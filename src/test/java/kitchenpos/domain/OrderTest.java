@@ -38,4 +38,18 @@ class OrderTest {
         assertThatThrownBy(() -> order.changeOrderStatus(COOKING))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @DisplayName("주문 상태는 조리, 식사, 계산 완료 순서로만 변경할 수 있다.")
+    @Test
+    void canNotChangeOrderStatusBackward() {
+        // given
+        final Menu menu = new Menu("메뉴 이름", BigDecimal.ONE, 1L, new MenuProducts(List.of()));
+        final OrderLineItem orderLineItem = new OrderLineItem(menu, QUANTITY);
+        final Order order = Order.of(1L, LocalDateTime.now(), List.of(orderLineItem));
+        order.changeOrderStatus(MEAL);
+
+        // when & then
+        assertThatThrownBy(() -> order.changeOrderStatus(COOKING))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }